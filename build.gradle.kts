@@ -65,6 +65,14 @@ java {
     withSourcesJar()
 }
 
+// tests with a registered metrics implementation, the other tests run without metrics
+val metricsTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[metricsTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[metricsTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 // set correct project status
 if (project.version.toString().endsWith("-SNAPSHOT")) {
     status = "snapshot'"
@@ -79,6 +87,37 @@ tasks {
         useJUnitPlatform()
     }
 
+    named<Test>("test") {
+        useJUnitPlatform {
+            excludeTags("benchmark")
+        }
+    }
+
+    // benchmarks are not part of the build, the results are published as report entries of the test results
+    register<Test>("benchmark") {
+        group = "verification"
+        description = "Runs the benchmarks."
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform {
+            includeTags("benchmark")
+        }
+        maxHeapSize = "2g"
+    }
+
+    // runs in its own JVM, so the metrics implementation is only found by these tests
+    val metricsTestTask = register<Test>("metricsTest") {
+        group = "verification"
+        description = "Runs the tests with a registered metrics implementation."
+        testClassesDirs = metricsTest.output.classesDirs
+        classpath = metricsTest.runtimeClasspath
+        shouldRunAfter(test)
+    }
+
+    named("check") {
+        dependsOn(metricsTestTask)
+    }
+
     withType<JacocoReport> {
         reports {
             xml.required.set(true)
@@ -89,6 +128,25 @@ tasks {
 
         dependsOn(test)
     }
+
+    // executable jar of the command line tool incl. all runtime dependencies
+    val cliJar = register<Jar>("cliJar") {
+        group = "build"
+        description = "Assembles an executable jar of the semantic version command line tool."
+        archiveClassifier.set("cli")
+        manifest {
+            attributes("Main-Class" to "com.intershop.version.semantic.SemanticVersionCli")
+        }
+        from(sourceSets.main.get().output)
+        from({ configurations.runtimeClasspath.get().map { if (it.isDirectory) it else zipTree(it) } }) {
+            exclude("META-INF/*.SF", "META-INF/*.DSA", "META-INF/*.RSA", "module-info.class")
+        }
+        duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+    }
+
+    named("assemble") {
+        dependsOn(cliJar)
+    }
 }
 
 val stagingRepoDir = project.layout.buildDirectory.dir("stagingRepo")
@@ -0,0 +1,117 @@
+package com.intershop.version.semantic;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dictionary of extension words (qualifiers) with a stable short code per word.
+ * <ul>
+ * <li>the empty word has the code 0</li>
+ * <li>the known words of the resolver (alpha, beta, rc, snapshot, ...) have fixed codes in lexicographic order, so the
+ * codes can be compared instead of the words</li>
+ * <li>unknown words get dynamic codes in order of appearance, equal codes are equal words but the order must be
+ * compared with the words</li>
+ * <li>if the dictionary is full, words get the code {@link #UNKNOWN}</li>
+ * </ul>
+ * The dynamic codes are global for the JVM and are never released, so the dictionary is filled by the first 32512
+ * unknown words (e.g. git hashes or build ids used as qualifiers in a long running service). Afterwards all new unknown
+ * words get the code {@link #UNKNOWN}, also words which are used often. The results of the comparisons don't change,
+ * words with the code {@link #UNKNOWN} are compared by the words, only the code comparison is lost for these words.
+ */
+class ExtensionDictionary
+{
+    static final short EMPTY = 0;
+    static final short UNKNOWN = -1;
+
+    private static final int FIRST_DYNAMIC_CODE = 256;
+    // known words of the resolver (alias normalized) in lexicographic order, the dictionary doesn't depend on the
+    // resolver, so the classes can be initialized in any order
+    private static final String[] KNOWN_WORDS = { "alpha", "beta", "dev", "jre", "local", "milestone", "rc",
+                    "snapshot", "sp" };
+    private static final ConcurrentMap<String, Short> CODES = new ConcurrentHashMap<>();
+    private static final String[] WORDS = new String[Short.MAX_VALUE + 1];
+    private static final AtomicInteger NEXT_DYNAMIC_CODE = new AtomicInteger(FIRST_DYNAMIC_CODE);
+
+    static
+    {
+        CODES.put("", EMPTY);
+        WORDS[EMPTY] = "";
+        short code = EMPTY + 1;
+        for (String word : KNOWN_WORDS)
+        {
+            CODES.put(word, code);
+            WORDS[code] = word;
+            code++;
+        }
+    }
+
+    private ExtensionDictionary()
+    {
+    }
+
+    /**
+     * A new unknown word gets the next dynamic code, which is kept until the JVM stops.
+     *
+     * @param word extension word (lower case)
+     * @return code of the word or {@link #UNKNOWN} if all dynamic codes are used
+     */
+    static short getCode(String word)
+    {
+        Short result = CODES.get(word);
+        if (result != null)
+        {
+            return result;
+        }
+        if (NEXT_DYNAMIC_CODE.get() > Short.MAX_VALUE)
+        {
+            return UNKNOWN;
+        }
+        return CODES.computeIfAbsent(word, w -> {
+            int newCode = NEXT_DYNAMIC_CODE.getAndIncrement();
+            if (newCode > Short.MAX_VALUE)
+            {
+                return UNKNOWN;
+            }
+            WORDS[newCode] = w;
+            return (short)newCode;
+        });
+    }
+
+    /**
+     * @param code code of a word
+     * @param word word, which is returned if the code is not a code of the dictionary
+     * @return shared instance of the word
+     */
+    static String getWord(short code, String word)
+    {
+        return code == UNKNOWN ? word : WORDS[code];
+    }
+
+    /**
+     * @param code code of a word
+     * @return true if the order of the codes is the same as the order of the words
+     */
+    static boolean isOrdered(short code)
+    {
+        return code >= EMPTY && code < FIRST_DYNAMIC_CODE;
+    }
+
+    /**
+     * Compares two words with the help of the codes
+     *
+     * @return the same result as {@code wordA.compareTo(wordB)}
+     */
+    static int compare(short codeA, String wordA, short codeB, String wordB)
+    {
+        if (codeA == codeB && codeA != UNKNOWN)
+        {
+            return 0;
+        }
+        if (isOrdered(codeA) && isOrdered(codeB))
+        {
+            return Integer.compare(codeA, codeB);
+        }
+        return wordA.compareTo(wordB);
+    }
+}
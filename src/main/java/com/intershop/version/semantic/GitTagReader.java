@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the versions of the tags of a local git repository without running git. The tags are read from the
+ * <code>packed-refs</code> file and the loose refs below <code>refs/tags</code>. Only tags with the given prefix
+ * (e.g. "v" or "module-name/") are used, the version is the tag name without the prefix. Tags, which are not
+ * versions (see {@link SemanticVersion#tryParse(String)}), are ignored.
+ *
+ * <pre>
+ * try (Stream&lt;SemanticVersion&gt; versions = new GitTagReader(Paths.get("."), "module-name/").semanticVersions())
+ * {
+ *     String next = new SemanticVersionIncrementor().incrementResolvedForRelease(versions, UpdateStrategy.PATCH);
+ * }
+ * </pre>
+ */
+public class GitTagReader
+{
+    private static final String TAGS = "refs/tags/";
+
+    private final Path gitDirectory;
+    private final String prefix;
+
+    /**
+     * @param repository working tree (with a <code>.git</code> directory or file) or git directory
+     * @param prefix prefix of the tag names of the versions ("" for all tags)
+     * @throws IOException if the <code>.git</code> file can't be read
+     */
+    public GitTagReader(Path repository, String prefix) throws IOException
+    {
+        this.gitDirectory = getCommonDirectory(getGitDirectory(repository));
+        this.prefix = prefix;
+    }
+
+    /**
+     * The <code>.git</code> of a linked work tree or submodule is a file with the path of the git directory
+     */
+    private static Path getGitDirectory(Path repository) throws IOException
+    {
+        Path dotGit = repository.resolve(".git");
+        if (Files.isDirectory(dotGit))
+        {
+            return dotGit;
+        }
+        if (Files.isRegularFile(dotGit))
+        {
+            String content = new String(Files.readAllBytes(dotGit), StandardCharsets.UTF_8).trim();
+            if (content.startsWith("gitdir:"))
+            {
+                return repository.resolve(content.substring("gitdir:".length()).trim()).normalize();
+            }
+        }
+        return repository;
+    }
+
+    /**
+     * The refs of a linked work tree are stored in the common git directory
+     */
+    private static Path getCommonDirectory(Path gitDirectory) throws IOException
+    {
+        Path commonDir = gitDirectory.resolve("commondir");
+        if (Files.isRegularFile(commonDir))
+        {
+            String content = new String(Files.readAllBytes(commonDir), StandardCharsets.UTF_8).trim();
+            return gitDirectory.resolve(content).normalize();
+        }
+        return gitDirectory;
+    }
+
+    /**
+     * @return names of all tags (packed and loose tags, each name once)
+     * @throws IOException if the refs can't be read
+     */
+    public List<String> getTags() throws IOException
+    {
+        try (Stream<String> tags = tags())
+        {
+            return tags.collect(Collectors.toList());
+        }
+        catch(UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return versions of the tags with the prefix (the stream must be closed)
+     * @throws IOException if the refs can't be read
+     */
+    public Stream<String> versions() throws IOException
+    {
+        return semanticVersions().map(SemanticVersion::getVersion);
+    }
+
+    /**
+     * @return the newest version of the tags with the prefix or Optional.empty()
+     * @throws IOException if the refs can't be read
+     */
+    public Optional<String> getNewestVersion() throws IOException
+    {
+        try (Stream<SemanticVersion> versions = semanticVersions())
+        {
+            return versions.reduce((a, b) -> b.compareTo(a) > 0 ? b : a).map(SemanticVersion::getVersion);
+        }
+        catch(UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Each tag with the prefix is resolved once, tags which are no versions are skipped. The versions can be passed to
+     * {@link SemanticVersionIncrementor#incrementResolvedForRelease(Stream, UpdateStrategy)}, so they are not resolved
+     * again.
+     *
+     * @return resolved versions of the tags with the prefix (the stream must be closed)
+     * @throws IOException if the refs can't be read
+     */
+    public Stream<SemanticVersion> semanticVersions() throws IOException
+    {
+        int length = prefix.length();
+        return tags().filter(t -> t.startsWith(prefix))
+                     .map(t -> SemanticVersion.tryParse(t.substring(length)).getVersion())
+                     .filter(Optional::isPresent)
+                     .map(Optional::get);
+    }
+
+    /**
+     * Loose refs are returned first, packed refs with the same name are skipped.
+     */
+    private Stream<String> tags() throws IOException
+    {
+        Path looseTags = gitDirectory.resolve(TAGS);
+        Stream<String> loose = Stream.empty();
+        if (Files.isDirectory(looseTags))
+        {
+            loose = Files.walk(looseTags)
+                         .filter(Files::isRegularFile)
+                         .map(p -> looseTags.relativize(p).toString().replace(p.getFileSystem().getSeparator(), "/"));
+        }
+        Path packedRefs = gitDirectory.resolve("packed-refs");
+        Stream<String> packed = Stream.empty();
+        if (Files.isRegularFile(packedRefs))
+        {
+            try
+            {
+                packed = Files.lines(packedRefs, StandardCharsets.UTF_8)
+                              .map(GitTagReader::getPackedTag)
+                              .filter(t -> t != null);
+            }
+            catch(IOException | RuntimeException e)
+            {
+                // the directories of the loose tags are already opened
+                loose.close();
+                throw e;
+            }
+        }
+        return Stream.concat(loose, packed).distinct();
+    }
+
+    /**
+     * @param line line of the packed-refs file (e.g. "&lt;sha&gt; refs/tags/v1.0.0")
+     * @return name of the tag or null, if the line is not a tag (e.g. comment, peeled object or branch)
+     */
+    private static String getPackedTag(String line)
+    {
+        int separator = line.indexOf(' ');
+        if (line.startsWith("#") || line.startsWith("^") || separator < 0
+                        || !line.startsWith(TAGS, separator + 1))
+        {
+            return null;
+        }
+        return line.substring(separator + 1 + TAGS.length()).trim();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "GitTagReader [gitDirectory=" + gitDirectory + ", prefix=" + prefix + "]";
+    }
+}
@@ -0,0 +1,175 @@
+package com.intershop.version.semantic;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Semantic version, which scans only the major, minor and patch version eagerly (see {@link VersionPrefix}). The
+ * extensions are resolved on demand, e.g. for the release type, the extension or if the versions can't be compared by
+ * the major, minor and patch version.
+ * <p>
+ * The resolved version is immutable and published with a volatile field, so instances are thread safe. A concurrent
+ * resolution creates an equal version.
+ */
+class LazySemanticVersion implements SemanticVersion
+{
+    private final String version;
+    private final long prefix;
+    private final Function<String, SemanticVersion> resolver;
+    private volatile SemanticVersionImpl resolved;
+
+    private LazySemanticVersion(String version, long prefix, Function<String, SemanticVersion> resolver)
+    {
+        this.version = version;
+        this.prefix = prefix;
+        this.resolver = resolver;
+    }
+
+    /**
+     * @param version version string
+     * @param resolver resolver, which creates {@link SemanticVersionImpl} instances
+     * @return lazy version or the resolved version if the major, minor and patch version can't be scanned
+     */
+    static SemanticVersion of(String version, Function<String, SemanticVersion> resolver)
+    {
+        long prefix = VersionPrefix.scan(version);
+        if (prefix == VersionPrefix.UNKNOWN)
+        {
+            return resolver.apply(version);
+        }
+        return new LazySemanticVersion(version, prefix, resolver);
+    }
+
+    /**
+     * @param version version
+     * @return resolved version for lazy versions, otherwise the given version
+     */
+    static SemanticVersion unwrap(SemanticVersion version)
+    {
+        return version instanceof LazySemanticVersion ? ((LazySemanticVersion)version).resolve() : version;
+    }
+
+    /**
+     * @return the resolved version
+     */
+    SemanticVersionImpl resolve()
+    {
+        SemanticVersionImpl result = resolved;
+        if (result == null)
+        {
+            result = (SemanticVersionImpl)resolver.apply(version);
+            resolved = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the extensions are already resolved
+     */
+    boolean isResolved()
+    {
+        return resolved != null;
+    }
+
+    @Override
+    public int getMajor()
+    {
+        return VersionPrefix.getMajor(prefix);
+    }
+
+    @Override
+    public int getMinor()
+    {
+        return VersionPrefix.getMinor(prefix);
+    }
+
+    @Override
+    public int getPatch()
+    {
+        return VersionPrefix.getPatch(prefix);
+    }
+
+    @Override
+    public String getVersion()
+    {
+        return version;
+    }
+
+    @Override
+    public ExtensionType getReleaseType()
+    {
+        return resolve().getReleaseType();
+    }
+
+    @Override
+    public String getExtension()
+    {
+        return resolve().getExtension();
+    }
+
+    @Override
+    public Optional<String> getPlatformExtension()
+    {
+        return resolve().getPlatformExtension();
+    }
+
+    @Override
+    public String getVersionWithoutBuildExtension()
+    {
+        return resolve().getVersionWithoutBuildExtension();
+    }
+
+    @Override
+    public StringBuilder appendTo(StringBuilder target)
+    {
+        return resolve().appendTo(target);
+    }
+
+    @Override
+    public SemanticVersion incrementLastIncrement()
+    {
+        return resolve().incrementLastIncrement();
+    }
+
+    /**
+     * Versions with different major, minor or patch version are compared without resolving the extensions.
+     */
+    @Override
+    public int compareTo(SemanticVersion version)
+    {
+        long otherPrefix = VersionPrefix.UNKNOWN;
+        if (version instanceof LazySemanticVersion)
+        {
+            otherPrefix = ((LazySemanticVersion)version).prefix;
+        }
+        else if (version instanceof SemanticVersionImpl)
+        {
+            otherPrefix = VersionPrefix.of(version);
+        }
+        if (otherPrefix != VersionPrefix.UNKNOWN && prefix != otherPrefix)
+        {
+            return Long.compare(prefix, otherPrefix);
+        }
+        return resolve().compareTo(version);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return resolve().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof SemanticVersion)) return false;
+        return resolve().equals(unwrap((SemanticVersion)obj));
+    }
+
+    @Override
+    public String toString()
+    {
+        return resolve().toString();
+    }
+}
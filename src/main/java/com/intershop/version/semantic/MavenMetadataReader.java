@@ -0,0 +1,94 @@
+package com.intershop.version.semantic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the versions (<code>metadata/versioning/versions/version</code>) of a maven-metadata.xml file with StAX.
+ * DTDs and external entities are not supported.
+ */
+class MavenMetadataReader
+{
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private MavenMetadataReader()
+    {
+    }
+
+    private static XMLInputFactory createFactory()
+    {
+        XMLInputFactory result = XMLInputFactory.newInstance();
+        result.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return result;
+    }
+
+    /**
+     * @param file metadata file
+     * @return versions in the order of the file
+     * @throws IOException if the file can't be read or is not well-formed (e.g. while it's written)
+     */
+    static Set<String> read(Path file) throws IOException
+    {
+        Set<String> result = new LinkedHashSet<>();
+        try (InputStream in = Files.newInputStream(file))
+        {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            try
+            {
+                // depth of the versions element, version elements are directly below
+                int depth = 0;
+                int versionsDepth = -1;
+                while(reader.hasNext())
+                {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT)
+                    {
+                        depth++;
+                        String name = reader.getLocalName();
+                        if ("versions".equals(name) && versionsDepth < 0)
+                        {
+                            versionsDepth = depth;
+                        }
+                        else if ("version".equals(name) && depth == versionsDepth + 1)
+                        {
+                            String version = reader.getElementText().trim();
+                            // getElementText moves to the end element
+                            depth--;
+                            if (!version.isEmpty())
+                            {
+                                result.add(version);
+                            }
+                        }
+                    }
+                    else if (event == XMLStreamConstants.END_ELEMENT)
+                    {
+                        if (depth == versionsDepth)
+                        {
+                            versionsDepth = -1;
+                        }
+                        depth--;
+                    }
+                }
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        catch(XMLStreamException e)
+        {
+            throw new IOException("invalid metadata file " + file + ": " + e.getMessage(), e);
+        }
+        return result;
+    }
+}
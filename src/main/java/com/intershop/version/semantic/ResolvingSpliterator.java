@@ -0,0 +1,76 @@
+package com.intershop.version.semantic;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Resolves the versions of a spliterator. Consecutive equal strings (e.g. of sorted or grouped input) are resolved
+ * once, so only the previous version is kept. The spliterator splits like the given spliterator, but parts with less
+ * than {@link SemanticVersionResolver#PARALLEL_THRESHOLD} versions are not split.
+ */
+class ResolvingSpliterator implements Spliterator<SemanticVersion>
+{
+    private final Spliterator<String> versions;
+    private final Function<String, SemanticVersion> resolver;
+    private String previous;
+    private SemanticVersion previousVersion;
+
+    ResolvingSpliterator(Spliterator<String> versions, Function<String, SemanticVersion> resolver)
+    {
+        this.versions = versions;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super SemanticVersion> action)
+    {
+        return versions.tryAdvance(v -> action.accept(resolve(v)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super SemanticVersion> action)
+    {
+        versions.forEachRemaining(v -> action.accept(resolve(v)));
+    }
+
+    private SemanticVersion resolve(String version)
+    {
+        if (previousVersion == null || !previous.equals(version))
+        {
+            previousVersion = resolver.apply(version);
+            previous = version;
+        }
+        return previousVersion;
+    }
+
+    @Override
+    public Spliterator<SemanticVersion> trySplit()
+    {
+        if (versions.estimateSize() < SemanticVersionResolver.PARALLEL_THRESHOLD)
+        {
+            return null;
+        }
+        Spliterator<String> prefix = versions.trySplit();
+        return prefix == null ? null : new ResolvingSpliterator(prefix, resolver);
+    }
+
+    @Override
+    public long estimateSize()
+    {
+        return versions.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown()
+    {
+        return versions.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics()
+    {
+        // equal versions can have different strings and the versions are not sorted by the comparator of the strings
+        return versions.characteristics() & ~(DISTINCT | SORTED);
+    }
+}
@@ -0,0 +1,162 @@
+package com.intershop.version.semantic;
+
+import java.util.Comparator;
+
+/**
+ * Version with precomputed {@link VersionSortKey sort key} and rank. Versions scanned by the
+ * {@link VersionKeyScanner} are resolved on demand only, that is if the key and the rank are not sufficient to compare
+ * the version or if the version is requested.
+ */
+class ScannedVersion
+{
+    /**
+     * Same order as {@link VersionComparators#VERSION_COMPARATOR}
+     */
+    static final Comparator<ScannedVersion> COMPARATOR = (a, b) -> {
+        if (a.keyed && b.keyed)
+        {
+            int result = VersionSortKey.compare(a.key, a.rank, b.key, b.rank);
+            if (result != VersionSortKey.UNDECIDED)
+            {
+                return result;
+            }
+        }
+        return VersionComparators.VERSION_COMPARATOR.compare(a.getVersion(), b.getVersion());
+    };
+
+    private final String string;
+    private final boolean keyed;
+    private final long key;
+    private final long rank;
+    private final long prefix;
+    private volatile SemanticVersion version;
+
+    private ScannedVersion(String string, boolean keyed, long key, long rank, long prefix, SemanticVersion version)
+    {
+        this.string = string;
+        this.keyed = keyed;
+        this.key = key;
+        this.rank = rank;
+        this.prefix = prefix;
+        this.version = version;
+    }
+
+    /**
+     * @param string version string
+     * @param scanner scanner (the scanner contains the result of the given string afterwards, if the version was
+     *            scanned)
+     * @return scanned version (resolved directly, if the version can't be scanned)
+     */
+    static ScannedVersion of(String string, VersionKeyScanner scanner)
+    {
+        if (scanner.scan(string))
+        {
+            return ofScanned(string, scanner);
+        }
+        return of(SemanticVersion.valueOf(string));
+    }
+
+    /**
+     * @param string version string
+     * @param scanner scanner, which successfully scanned the given string
+     * @return scanned (not resolved) version
+     */
+    static ScannedVersion ofScanned(String string, VersionKeyScanner scanner)
+    {
+        return new ScannedVersion(string, true, scanner.getKey(), scanner.getRank(),
+                        VersionPrefix.of(scanner.getMajor(), scanner.getMinor(), scanner.getPatch()), null);
+    }
+
+    /**
+     * @param string version string
+     * @param key sort key of the version
+     * @param rank rank of the version
+     * @return not resolved version with an already computed key (e.g. read from a file), the prefix is
+     *         {@link VersionPrefix#UNKNOWN}
+     */
+    static ScannedVersion ofKey(String string, long key, long rank)
+    {
+        return new ScannedVersion(string, true, key, rank, VersionPrefix.UNKNOWN, null);
+    }
+
+    /**
+     * @param version resolved version
+     * @return version with sort key (if the version is a {@link SemanticVersionImpl})
+     */
+    static ScannedVersion of(SemanticVersion version)
+    {
+        version = LazySemanticVersion.unwrap(version);
+        if (version instanceof SemanticVersionImpl)
+        {
+            SemanticVersionImpl impl = (SemanticVersionImpl)version;
+            return new ScannedVersion(version.getVersion(), true, VersionSortKey.of(impl), VersionSortKey.rank(impl),
+                            VersionPrefix.of(version), version);
+        }
+        return new ScannedVersion(version.getVersion(), false, 0, VersionSortKey.UNRANKED, VersionPrefix.of(version),
+                        version);
+    }
+
+    /**
+     * @return version string
+     */
+    String getString()
+    {
+        return string;
+    }
+
+    /**
+     * @return true if the version has a sort key and a rank
+     */
+    boolean isKeyed()
+    {
+        return keyed;
+    }
+
+    long getKey()
+    {
+        return key;
+    }
+
+    long getRank()
+    {
+        return rank;
+    }
+
+    /**
+     * @return true if versions with the same key can be compared by the rank
+     */
+    boolean isRanked()
+    {
+        return keyed && rank != VersionSortKey.UNRANKED && !VersionSortKey.isDeep(key);
+    }
+
+    /**
+     * @return packed major, minor and patch version (see {@link VersionPrefix})
+     */
+    long getPrefix()
+    {
+        return prefix;
+    }
+
+    /**
+     * @return resolved version
+     */
+    SemanticVersion getVersion()
+    {
+        SemanticVersion result = version;
+        if (result == null)
+        {
+            result = SemanticVersion.valueOf(string);
+            version = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the version was already resolved
+     */
+    boolean isResolved()
+    {
+        return version != null;
+    }
+}
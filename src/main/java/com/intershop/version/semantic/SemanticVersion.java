@@ -16,6 +16,7 @@
  */
 package com.intershop.version.semantic;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -33,6 +34,18 @@ public interface SemanticVersion extends Comparable<SemanticVersion>
         return new SemanticVersionResolverImpl().apply(version);
     }
 
+    /**
+     * Parses a {@link String} without exceptions. In contrast to {@link #valueOf(String)}, which accepts every string,
+     * strings with empty segments (e.g. "1..2"), whitespace or control characters or without any version number are
+     * rejected.
+     * @param version version as string (can be null)
+     * @return parse result with the semantic version or the position of the error
+     */
+    static SemanticVersionParseResult tryParse(String version)
+    {
+        return new SemanticVersionResolverImpl().tryParse(version);
+    }
+
     /**
      * Returns the major version component
      * @return the major version component
@@ -100,7 +113,28 @@ public interface SemanticVersion extends Comparable<SemanticVersion>
     }
 
     /**
-     * Increments the version
+     * Appends the same text as {@link #toString()} without creating intermediate strings
+     * @param target buffer
+     * @return the given buffer
+     */
+    default StringBuilder appendTo(StringBuilder target)
+    {
+        return target.append(toString());
+    }
+
+    /**
+     * Writes the same text as {@link #toString()} to the target, e.g. for exports of large catalogs
+     * @param target buffer or writer
+     * @throws IOException if the target can't be written
+     */
+    default void formatTo(Appendable target) throws IOException
+    {
+        VersionFormatter.formatTo(this, target);
+    }
+
+    /**
+     * Increments the version. A timestamped snapshot (e.g. 1.2.0-20240101.120102-17) is incremented like its snapshot
+     * version (1.2.0-SNAPSHOT).
      * @return the semantic version, which would be the next following of the current (e.g. 1.0.0-alpha-2 for 1.0.0-alpha-1)
      */
     SemanticVersion incrementLastIncrement();
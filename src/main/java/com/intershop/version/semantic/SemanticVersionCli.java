@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Command line tool, which reads versions line by line from files or stdin and writes the result to stdout.
+ *
+ * <pre>
+ * sort                              sorts the versions (lowest first)
+ * dedupe                            removes versions with the same semantic meaning (first one is kept)
+ * newest --current V --strategy S   newest version reachable from V with the update strategy S
+ * next-release [--strategy S]       version of the next release after the newest version
+ * next-pre-release [--strategy S]   version of the next pre release after the newest version
+ * </pre>
+ *
+ * Empty lines are ignored. The versions are processed as stream, so the memory is bounded by the amount of distinct
+ * versions (dedupe) or constant. Large inputs are sorted with temporary files (see
+ * {@link SemanticVersionExternalSorter}).
+ */
+public class SemanticVersionCli
+{
+    /**
+     * exit code for success
+     */
+    static final int OK = 0;
+    /**
+     * exit code, if no version was found
+     */
+    static final int NOT_FOUND = 1;
+    /**
+     * exit code for invalid arguments or unreadable input
+     */
+    static final int ERROR = 2;
+    private static final String USAGE = "usage: semantic-version (sort | dedupe | newest --current <version> "
+                    + "[--strategy <strategy>] | next-release [--strategy <strategy>] | next-pre-release "
+                    + "[--strategy <strategy>]) [file...]";
+
+    private final String mode;
+    private final List<String> files = new ArrayList<>();
+    private String current;
+    private UpdateStrategy strategy;
+
+    private SemanticVersionCli(String mode)
+    {
+        this.mode = mode;
+    }
+
+    /**
+     * @param args mode, options and files (stdin if no file or "-" is given)
+     */
+    public static void main(String[] args)
+    {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * @param args mode, options and files
+     * @param in standard input
+     * @param out standard output
+     * @param err standard error
+     * @return exit code
+     */
+    static int run(String[] args, InputStream in, OutputStream out, PrintStream err)
+    {
+        SemanticVersionCli cli;
+        try
+        {
+            cli = parseArguments(args);
+        }
+        catch(IllegalArgumentException e)
+        {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return ERROR;
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        try
+        {
+            int result = cli.execute(in, writer);
+            writer.flush();
+            return result;
+        }
+        catch(IOException | UncheckedIOException e)
+        {
+            err.println("semantic-version: " + e.getMessage());
+            return ERROR;
+        }
+    }
+
+    private static SemanticVersionCli parseArguments(String[] args)
+    {
+        if (args.length == 0)
+        {
+            throw new IllegalArgumentException("mode is missing");
+        }
+        SemanticVersionCli result = new SemanticVersionCli(args[0]);
+        for (int i = 1; i < args.length; i++)
+        {
+            String arg = args[i];
+            if ("--current".equals(arg) || "--strategy".equals(arg))
+            {
+                if (i + 1 == args.length)
+                {
+                    throw new IllegalArgumentException("value of " + arg + " is missing");
+                }
+                String value = args[++i];
+                if ("--current".equals(arg))
+                {
+                    result.current = value;
+                }
+                else
+                {
+                    result.strategy = parseStrategy(value);
+                }
+            }
+            else if (arg.startsWith("--"))
+            {
+                throw new IllegalArgumentException("unknown option " + arg);
+            }
+            else
+            {
+                result.files.add(arg);
+            }
+        }
+        switch(result.mode)
+        {
+            case "sort":
+            case "dedupe":
+                break;
+            case "newest":
+                if (result.current == null)
+                {
+                    throw new IllegalArgumentException("--current is required for newest");
+                }
+                result.strategy = result.strategy == null ? UpdateStrategy.MAJOR : result.strategy;
+                break;
+            case "next-release":
+            case "next-pre-release":
+                result.strategy = result.strategy == null ? UpdateStrategy.PATCH : result.strategy;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown mode " + result.mode);
+        }
+        return result;
+    }
+
+    private static UpdateStrategy parseStrategy(String value)
+    {
+        try
+        {
+            return UpdateStrategy.valueOf(value.toUpperCase(Locale.US));
+        }
+        catch(IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException("unknown strategy " + value);
+        }
+    }
+
+    private int execute(InputStream in, Writer out) throws IOException
+    {
+        switch(mode)
+        {
+            case "sort":
+                return sort(in, out);
+            case "dedupe":
+                return dedupe(in, out);
+            case "newest":
+                return newest(in, out);
+            default:
+                return next(in, out);
+        }
+    }
+
+    private int sort(InputStream in, Writer out) throws IOException
+    {
+        try (SemanticVersionExternalSorter sorter = new SemanticVersionExternalSorter())
+        {
+            readLines(in, line -> {
+                try
+                {
+                    sorter.add(line);
+                }
+                catch(IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            sorter.writeTo(line -> writeLine(out, line));
+        }
+        return OK;
+    }
+
+    private int dedupe(InputStream in, Writer out) throws IOException
+    {
+        Set<SemanticVersion> seen = new HashSet<>();
+        readLines(in, line -> {
+            if (seen.add(SemanticVersion.valueOf(line)))
+            {
+                writeLine(out, line);
+            }
+        });
+        return OK;
+    }
+
+    /**
+     * The candidates are checked in pages (like the asynchronous search), the newest version of the previous pages is
+     * checked with each page.
+     */
+    private int newest(InputStream in, Writer out) throws IOException
+    {
+        SemanticVersionMigration migration = new SemanticVersionMigration();
+        List<String> page = new ArrayList<>(SemanticVersionMigration.PAGE_SIZE);
+        String[] newest = new String[1];
+        readLines(in, line -> {
+            page.add(line);
+            if (page.size() == SemanticVersionMigration.PAGE_SIZE)
+            {
+                newest[0] = migration.getMigration(strategy, page, current, Optional.ofNullable(newest[0]))
+                                     .orElse(null);
+                page.clear();
+            }
+        });
+        Optional<String> result = migration.getMigration(strategy, page, current, Optional.ofNullable(newest[0]));
+        if (result.isEmpty())
+        {
+            return NOT_FOUND;
+        }
+        writeLine(out, result.get());
+        return OK;
+    }
+
+    private int next(InputStream in, Writer out) throws IOException
+    {
+        SemanticVersion[] newest = new SemanticVersion[1];
+        readLines(in, line -> {
+            SemanticVersion version = SemanticVersion.valueOf(line);
+            // the first of equal versions is kept
+            if (newest[0] == null || version.compareTo(newest[0]) > 0)
+            {
+                newest[0] = version;
+            }
+        });
+        List<String> versions = newest[0] == null ? Collections.emptyList()
+                        : Collections.singletonList(newest[0].getVersion());
+        SemanticVersionIncrementor incrementor = new SemanticVersionIncrementor();
+        writeLine(out, "next-release".equals(mode) ? incrementor.incrementForRelease(versions, strategy)
+                        : incrementor.incrementForPreRelease(versions, strategy));
+        return OK;
+    }
+
+    /**
+     * Reads the trimmed, not empty lines of all files or stdin
+     */
+    private void readLines(InputStream in, Consumer<String> consumer) throws IOException
+    {
+        if (files.isEmpty())
+        {
+            readLines(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16), consumer);
+            return;
+        }
+        for (String file : files)
+        {
+            if ("-".equals(file))
+            {
+                readLines(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16), consumer);
+            }
+            else
+            {
+                try (BufferedReader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8))
+                {
+                    readLines(reader, consumer);
+                }
+            }
+        }
+    }
+
+    private static void readLines(BufferedReader reader, Consumer<String> consumer) throws IOException
+    {
+        for (String line = reader.readLine(); line != null; line = reader.readLine())
+        {
+            String version = line.trim();
+            if (!version.isEmpty())
+            {
+                consumer.accept(version);
+            }
+        }
+    }
+
+    private static void writeLine(Writer out, String line)
+    {
+        try
+        {
+            out.write(line);
+            out.write('\n');
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.intershop.version.semantic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Column oriented view (primitive arrays) of a list of semantic versions.
+ * <p>
+ * The strategy filters of {@link SemanticVersionMigration} are evaluated as branch free int operations over the
+ * columns. These loops have no data dependent branches, so the JIT compiler can unroll and vectorize them (superword).
+ * Only the surviving rows are compared with the (expensive) version comparator.
+ * <p>
+ * The production state is calculated on demand for rows with matching major and minor version only, so the extensions
+ * of {@link LazySemanticVersion lazy versions} are resolved for these rows only.
+ */
+class SemanticVersionColumns
+{
+    /**
+     * wildcard for major or minor filters
+     */
+    static final int ANY = -1;
+
+    private static final int PRODUCTION = -1;
+    private static final int NON_PRODUCTION = 0;
+    private static final int UNKNOWN_PRODUCTION = 1;
+
+    private final SemanticVersion[] versions;
+    private final int[] majors;
+    private final int[] minors;
+    // -1 (all bits set) for production versions, 0 otherwise, 1 if not calculated yet
+    private final int[] production;
+    // result of the filter, reused by each match
+    private final int[] match;
+    // rows matching the filter of the last max
+    private int matchCount;
+
+    private SemanticVersionColumns(SemanticVersion[] versions)
+    {
+        this.versions = versions;
+        this.majors = new int[versions.length];
+        this.minors = new int[versions.length];
+        this.production = new int[versions.length];
+        this.match = new int[versions.length];
+        for (int i = 0; i < versions.length; i++)
+        {
+            majors[i] = versions[i].getMajor();
+            minors[i] = versions[i].getMinor();
+        }
+        Arrays.fill(production, UNKNOWN_PRODUCTION);
+    }
+
+    /**
+     * @param versions versions to convert
+     * @return column view of the given versions
+     */
+    static SemanticVersionColumns of(Collection<SemanticVersion> versions)
+    {
+        return new SemanticVersionColumns(versions.toArray(new SemanticVersion[0]));
+    }
+
+    /**
+     * @return amount of rows
+     */
+    int size()
+    {
+        return versions.length;
+    }
+
+    /**
+     * Calculates for each row, if the row matches the filter.
+     *
+     * @param major required major version or {@link #ANY}
+     * @param minor required minor version or {@link #ANY}
+     * @param productionOnly true if only versions for production are accepted
+     * @return array with one entry per row, 0 if the row matches the filter (the array is overwritten by the next
+     *         match)
+     */
+    int[] match(int major, int minor, boolean productionOnly)
+    {
+        int majorMask = major == ANY ? 0 : -1;
+        int minorMask = minor == ANY ? 0 : -1;
+        int[] result = match;
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = ((majors[i] ^ major) & majorMask) | ((minors[i] ^ minor) & minorMask);
+        }
+        if (productionOnly)
+        {
+            for (int i = 0; i < result.length; i++)
+            {
+                if (result[i] == 0)
+                {
+                    result[i] = ~getProduction(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int getProduction(int row)
+    {
+        if (production[row] == UNKNOWN_PRODUCTION)
+        {
+            production[row] = versions[row].isRecommendedForProduction() ? PRODUCTION : NON_PRODUCTION;
+        }
+        return production[row];
+    }
+
+    /**
+     * Find the newest version matching the filter
+     *
+     * @param major required major version or {@link #ANY}
+     * @param minor required minor version or {@link #ANY}
+     * @param productionOnly true if only versions for production are accepted
+     * @param comparator comparator to find the newest version
+     * @return newest matching version or Optional.empty()
+     */
+    Optional<SemanticVersion> max(int major, int minor, boolean productionOnly, Comparator<SemanticVersion> comparator)
+    {
+        int[] match = match(major, minor, productionOnly);
+        SemanticVersion result = null;
+        int matched = 0;
+        for (int i = 0; i < match.length; i++)
+        {
+            if (match[i] == 0)
+            {
+                matched++;
+                if (result == null || comparator.compare(versions[i], result) > 0)
+                {
+                    result = versions[i];
+                }
+            }
+        }
+        matchCount = matched;
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * @return amount of rows matching the filter of the last {@link #max(int, int, boolean, Comparator)}
+     */
+    int getMatchCount()
+    {
+        return matchCount;
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Sorts (lowest first) more versions than fit into the memory. The versions are collected in chunks, which are sorted
+ * in parallel with the precomputed sort keys (see {@link VersionSorter}) and written as sorted runs to temporary
+ * files. The runs contain the sort keys, so the runs are merged without parsing the versions again. The sort is
+ * stable, so the result is the same as {@link SemanticVersions#sortStrings(java.util.Collection)}.
+ * <p>
+ * A sorter is used once: {@link #add(String)} all versions, {@link #writeTo(Consumer)} the sorted versions and
+ * {@link #close()} the sorter, which deletes the temporary files.
+ */
+public class SemanticVersionExternalSorter implements Closeable
+{
+    // estimated heap of a collected version without the characters (string, scanned version, array entry)
+    private static final long BYTES_PER_VERSION = 112;
+    private static final int MIN_CHUNK_SIZE = 1 << 10;
+    // maximum amount of runs merged at once (open files)
+    private static final int MAX_MERGE_RUNS = 64;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int KEYED = 1;
+    private static final int NOT_KEYED = 0;
+
+    private final Path tempDirectory;
+    private final long chunkBudget;
+    private final ExecutorService executor;
+    private final Semaphore pendingChunks;
+    private final List<Future<Path>> runs = new ArrayList<>();
+    private final List<Path> files = new ArrayList<>();
+    private List<String> chunk = new ArrayList<>();
+    private long chunkBytes;
+    private boolean finished;
+
+    /**
+     * Sorter with a quarter of the maximum heap as budget, one thread per processor and the default temporary
+     * directory
+     *
+     * @throws IOException if the temporary directory can't be created
+     */
+    public SemanticVersionExternalSorter() throws IOException
+    {
+        this(null, Runtime.getRuntime().maxMemory() / 4, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param tempDirectory directory of the sorted runs (null for the default temporary directory)
+     * @param memoryBudget estimated heap in bytes used by the collected versions of all chunks
+     * @param parallelism amount of chunks sorted and written at the same time
+     * @throws IOException if the temporary directory can't be created
+     */
+    public SemanticVersionExternalSorter(Path tempDirectory, long memoryBudget, int parallelism) throws IOException
+    {
+        if (memoryBudget <= 0 || parallelism <= 0)
+        {
+            throw new IllegalArgumentException("memory budget and parallelism must be positive");
+        }
+        this.tempDirectory = tempDirectory == null ? Files.createTempDirectory("semantic-version")
+                        : Files.createTempDirectory(tempDirectory, "semantic-version");
+        // one chunk is collected, while the others are sorted
+        this.chunkBudget = memoryBudget / (parallelism + 1);
+        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "semantic-version-sort");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pendingChunks = new Semaphore(parallelism);
+    }
+
+    /**
+     * @param version version to sort
+     * @throws IOException if a run can't be written
+     */
+    public void add(String version) throws IOException
+    {
+        if (finished)
+        {
+            throw new IllegalStateException("sorted versions are already written");
+        }
+        chunk.add(version);
+        chunkBytes += BYTES_PER_VERSION + version.length();
+        if (chunkBytes >= chunkBudget && chunk.size() >= MIN_CHUNK_SIZE)
+        {
+            spill();
+        }
+    }
+
+    /**
+     * @return amount of sorted runs written to temporary files
+     */
+    public int getRunCount()
+    {
+        return runs.size();
+    }
+
+    /**
+     * Writes all added versions sorted to the output
+     *
+     * @param output receives the sorted versions
+     * @throws IOException if a run can't be written or read
+     */
+    public void writeTo(Consumer<String> output) throws IOException
+    {
+        if (finished)
+        {
+            throw new IllegalStateException("sorted versions are already written");
+        }
+        finished = true;
+        if (runs.isEmpty())
+        {
+            // all versions fit into the memory
+            for (ScannedVersion version : sortChunk(chunk))
+            {
+                output.accept(version.getString());
+            }
+            chunk = null;
+            return;
+        }
+        spill();
+        List<Path> sortedRuns = new ArrayList<>(runs.size());
+        for (Future<Path> run : runs)
+        {
+            sortedRuns.add(await(run));
+        }
+        // neighboring runs are merged first, so the sort is stable
+        while(sortedRuns.size() > MAX_MERGE_RUNS)
+        {
+            List<Path> merged = new ArrayList<>();
+            for (int i = 0; i < sortedRuns.size(); i += MAX_MERGE_RUNS)
+            {
+                List<Path> group = sortedRuns.subList(i, Math.min(i + MAX_MERGE_RUNS, sortedRuns.size()));
+                Path file = createRunFile();
+                try (DataOutputStream out = openRun(file))
+                {
+                    merge(group, v -> write(out, v));
+                }
+                deleteAll(group);
+                merged.add(file);
+            }
+            sortedRuns = merged;
+        }
+        merge(sortedRuns, v -> output.accept(v.getString()));
+    }
+
+    /**
+     * Deletes the temporary files
+     *
+     * @throws IOException if a file can't be deleted
+     */
+    @Override
+    public void close() throws IOException
+    {
+        executor.shutdownNow();
+        chunk = null;
+        deleteAll(files);
+        Files.deleteIfExists(tempDirectory);
+    }
+
+    private void spill() throws IOException
+    {
+        List<String> versions = chunk;
+        chunk = new ArrayList<>(versions.size());
+        chunkBytes = 0;
+        if (versions.isEmpty())
+        {
+            return;
+        }
+        Path file = createRunFile();
+        try
+        {
+            pendingChunks.acquire();
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("sort interrupted");
+        }
+        runs.add(executor.submit(() -> {
+            try (DataOutputStream out = openRun(file))
+            {
+                for (ScannedVersion version : sortChunk(versions))
+                {
+                    write(out, version);
+                }
+            }
+            finally
+            {
+                pendingChunks.release();
+            }
+            return file;
+        }));
+    }
+
+    private static ScannedVersion[] sortChunk(List<String> versions)
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        ScannedVersion[] result = new ScannedVersion[versions.size()];
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = ScannedVersion.of(versions.get(i), scanner);
+        }
+        Arrays.sort(result, ScannedVersion.COMPARATOR);
+        return result;
+    }
+
+    /**
+     * k-way merge of the runs, equal versions are returned in the order of the runs
+     */
+    private static void merge(List<Path> sortedRuns, Consumer<ScannedVersion> output) throws IOException
+    {
+        List<Run> open = new ArrayList<>(sortedRuns.size());
+        try
+        {
+            PriorityQueue<Run> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()), (a, b) -> {
+                int result = ScannedVersion.COMPARATOR.compare(a.head, b.head);
+                return result != 0 ? result : Integer.compare(a.index, b.index);
+            });
+            for (Path file : sortedRuns)
+            {
+                Run run = new Run(open.size(), file);
+                open.add(run);
+                if (run.advance())
+                {
+                    heads.add(run);
+                }
+            }
+            while(!heads.isEmpty())
+            {
+                Run run = heads.poll();
+                output.accept(run.head);
+                if (run.advance())
+                {
+                    heads.add(run);
+                }
+            }
+        }
+        catch(UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+        finally
+        {
+            for (Run run : open)
+            {
+                run.in.close();
+            }
+        }
+    }
+
+    /**
+     * Format of an entry: keyed flag (byte), sort key and rank (long, only for keyed versions), length of the UTF-8
+     * bytes (variable length int) and the UTF-8 bytes of the version string.
+     */
+    private static void write(DataOutputStream out, ScannedVersion version)
+    {
+        try
+        {
+            if (version.isKeyed())
+            {
+                out.writeByte(KEYED);
+                out.writeLong(version.getKey());
+                out.writeLong(version.getRank());
+            }
+            else
+            {
+                out.writeByte(NOT_KEYED);
+            }
+            byte[] bytes = version.getString().getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length;
+            while(length > 0x7F)
+            {
+                out.writeByte((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            out.writeByte(length);
+            out.write(bytes);
+        }
+        catch(IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path createRunFile() throws IOException
+    {
+        Path result = Files.createTempFile(tempDirectory, "run", ".bin");
+        synchronized(files)
+        {
+            files.add(result);
+        }
+        return result;
+    }
+
+    private static DataOutputStream openRun(Path file) throws IOException
+    {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+
+    private void deleteAll(List<Path> paths) throws IOException
+    {
+        synchronized(files)
+        {
+            for (Path path : new ArrayList<>(paths))
+            {
+                Files.deleteIfExists(path);
+                files.remove(path);
+            }
+        }
+    }
+
+    private static Path await(Future<Path> run) throws IOException
+    {
+        try
+        {
+            return run.get();
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("sort interrupted");
+        }
+        catch(ExecutionException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException)e.getCause();
+            }
+            if (e.getCause() instanceof UncheckedIOException)
+            {
+                throw ((UncheckedIOException)e.getCause()).getCause();
+            }
+            throw new IOException("sort of a run failed", e.getCause());
+        }
+    }
+
+    /**
+     * Sorted run, which is read entry by entry
+     */
+    private static final class Run
+    {
+        private final int index;
+        private final DataInputStream in;
+        private ScannedVersion head;
+
+        private Run(int index, Path file) throws IOException
+        {
+            this.index = index;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        }
+
+        /**
+         * @return false if the run has no more versions
+         */
+        private boolean advance() throws IOException
+        {
+            int flag = in.read();
+            if (flag < 0)
+            {
+                head = null;
+                return false;
+            }
+            long key = 0;
+            long rank = 0;
+            if (flag == KEYED)
+            {
+                key = in.readLong();
+                rank = in.readLong();
+            }
+            int length = 0;
+            for (int shift = 0;; shift += 7)
+            {
+                int b = in.readUnsignedByte();
+                length |= (b & 0x7F) << shift;
+                if (b < 0x80)
+                {
+                    break;
+                }
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            String string = new String(bytes, StandardCharsets.UTF_8);
+            head = flag == KEYED ? ScannedVersion.ofKey(string, key, rank) : ScannedVersion.of(string,
+                            new VersionKeyScanner());
+            return true;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Straight forward implementation of semantic versions without version extensions
@@ -13,6 +12,8 @@ class SemanticVersionImpl implements SemanticVersion
 {
     private final String version;
     private final VersionItem item;
+    // lazy initialized, the key is immutable so a concurrent initialization creates an equal key
+    private String identityKey;
 
     /**
      * @param version
@@ -44,6 +45,11 @@ class SemanticVersionImpl implements SemanticVersion
         return item.getNumbers().size() > 2 ? item.getNumbers().get(2) : 0;
     }
 
+    VersionItem getItem()
+    {
+        return item;
+    }
+
     public List<Integer> getNumbers()
     {
         return item.getNumbers();
@@ -66,6 +72,12 @@ class SemanticVersionImpl implements SemanticVersion
         return item.toString();
     }
 
+    @Override
+    public StringBuilder appendTo(StringBuilder target)
+    {
+        return item.appendTo(target);
+    }
+
     @Override
     public ExtensionType getReleaseType()
     {
@@ -81,6 +93,7 @@ class SemanticVersionImpl implements SemanticVersion
     @Override
     public int compareTo(SemanticVersion version)
     {
+        version = LazySemanticVersion.unwrap(version);
         if (version instanceof SemanticVersionImpl)
         {
             return VersionComparators.VERSION_IMPL_COMPARATOR.compare(this, ((SemanticVersionImpl)version));
@@ -91,38 +104,44 @@ class SemanticVersionImpl implements SemanticVersion
     @Override
     public Optional<String> getPlatformExtension()
     {
-        List<String> result = item.getExtensions()
-                                  .stream()
-                                  .filter(e -> ExtensionType.PLATFORM.equals(e.getExtensionType()))
-                                  .map(e -> "-" + e.toString())
-                                  .collect(Collectors.toList());
-        if (result.isEmpty())
+        StringBuilder result = null;
+        for (VersionExtensionItem extension : item.getExtensions())
         {
-            return Optional.empty();
+            if (ExtensionType.PLATFORM.equals(extension.getExtensionType()))
+            {
+                // each platform extension has a leading dash and is separated by a dash
+                result = result == null ? new StringBuilder("-") : result.append("--");
+                extension.appendTo(result);
+            }
         }
-        return Optional.of(String.join("-", result));
+        return result == null ? Optional.empty() : Optional.of(result.toString());
     }
 
     @Override
     public String getVersionWithoutBuildExtension()
     {
-        String result = SemanticVersion.super.getVersionWithoutBuildExtension();
+        StringBuilder result = new StringBuilder().append(getMajor())
+                                                  .append('.')
+                                                  .append(getMinor())
+                                                  .append('.')
+                                                  .append(getPatch());
         List<Integer> numbers = item.getNumbers();
-        if (numbers.size() > 3)
+        for (int i = 3; i < numbers.size(); i++)
         {
-            StringBuilder b = new StringBuilder(result);
-            for (int i = 3; i < numbers.size(); i++)
-            {
-                b = b.append(".").append(numbers.get(i));
-            }
-            result = b.toString();
+            result.append('.').append(numbers.get(i).intValue());
         }
-        return result;
+        return result.toString();
     }
 
     @Override
     public SemanticVersion incrementLastIncrement()
     {
+        // the next build of a timestamped snapshot, every snapshot version without timestamp is older than the build
+        int snapshot = TimestampedSnapshot.find(version);
+        if (snapshot != TimestampedSnapshot.NOT_FOUND)
+        {
+            return SemanticVersion.valueOf(TimestampedSnapshot.incrementBuild(version, snapshot));
+        }
         List<VersionExtensionItem> extensions = item.getExtensions();
         List<VersionExtensionItem> newExtensions = new ArrayList<>(extensions.size());
         boolean incrementIsOpen = true;
@@ -148,20 +167,42 @@ class SemanticVersionImpl implements SemanticVersion
         return new SemanticVersionImpl(newItem.toString(), newItem);
     }
 
+    /**
+     * @return key, which is equal for versions with the same semantic meaning (e.g. "1.0" and "1.0.0")
+     */
+    String getIdentityKey()
+    {
+        String result = identityKey;
+        if (result == null)
+        {
+            result = item.getIdentityKey();
+            identityKey = result;
+        }
+        return result;
+    }
+
+    /**
+     * Hash code is consistent to {@link #equals(Object)}, so it's the same for "1.0" and "1.0.0".
+     */
     @Override
     public int hashCode()
     {
-        return Objects.hash(version);
+        return getIdentityKey().hashCode();
     }
 
+    /**
+     * Versions are equal if the semantic meaning is equal, so it's consistent with {@link #compareTo(SemanticVersion)}
+     * (e.g. "1.0", "1.0.0", "1-ga" and "1.0-final" are equal).
+     */
     @Override
     public boolean equals(Object obj)
     {
         if (this == obj) return true;
+        if (obj instanceof LazySemanticVersion) obj = ((LazySemanticVersion)obj).resolve();
         if (obj == null) return false;
         if (getClass() != obj.getClass()) return false;
         SemanticVersionImpl other = (SemanticVersionImpl)obj;
-        return Objects.equals(version, other.version);
+        return Objects.equals(getIdentityKey(), other.getIdentityKey());
     }
 
 }
@@ -4,6 +4,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * SemanticVersionIncrementor can increment a semantic version for automatic versioning. The incrementor consume one or
@@ -51,12 +52,133 @@ public class SemanticVersionIncrementor
         {
             return "1.0.0";
         }
-        return oldVersions.stream().max(comparator).map(v -> incrementForRelease(v, strategy)).get();
+        return incrementForRelease(getNewestVersion(oldVersions), strategy);
+    }
+
+    /**
+     * Same as {@link #incrementForRelease(List, UpdateStrategy)} for a stream of versions (e.g. read from tags), only
+     * the newest version is kept.
+     * @param oldVersions versions, related to the current commit
+     * @param strategy fallback update strategy in case the newest version is not a pre or dev release
+     * @return a version string, which can be used for up-comming releases.
+     */
+    public String incrementForRelease(Stream<String> oldVersions, UpdateStrategy strategy)
+    {
+        return getNewestVersion(oldVersions).map(v -> incrementForRelease(v, strategy)).orElse("1.0.0");
+    }
+
+    /**
+     * Same as {@link #incrementForPreRelease(List, UpdateStrategy)} for a stream of versions (e.g. read from tags),
+     * only the newest version is kept.
+     * @param oldVersions versions, related to the current commit
+     * @param strategy fallback update strategy in case the newest version is not a pre or dev release
+     * @return a version string, which can be used for up-comming pre- or dev- releases.
+     */
+    public String incrementForPreRelease(Stream<String> oldVersions, UpdateStrategy strategy)
+    {
+        return getNewestVersion(oldVersions).map(v -> incrementForPreRelease(v, strategy))
+                                            .orElse("1.0.0" + FIRST_PRE_RELEASE);
+    }
+
+    /**
+     * Same as {@link #incrementForRelease(Stream, UpdateStrategy)} for versions, which are already resolved (e.g. by
+     * {@link GitTagReader#semanticVersions()}). The predefined resolver and comparator don't resolve the versions
+     * again, otherwise the version strings are used.
+     * @param oldVersions resolved versions, related to the current commit
+     * @param strategy fallback update strategy in case the newest version is not a pre or dev release
+     * @return a version string, which can be used for up-comming releases.
+     */
+    public String incrementResolvedForRelease(Stream<? extends SemanticVersion> oldVersions, UpdateStrategy strategy)
+    {
+        if (!isPredefined())
+        {
+            return incrementForRelease(oldVersions.map(SemanticVersion::getVersion), strategy);
+        }
+        return getNewestResolvedVersion(oldVersions).map(v -> incrementForRelease(v, strategy)).orElse("1.0.0");
+    }
+
+    /**
+     * Same as {@link #incrementForPreRelease(Stream, UpdateStrategy)} for versions, which are already resolved (e.g.
+     * by {@link GitTagReader#semanticVersions()}). The predefined resolver and comparator don't resolve the versions
+     * again, otherwise the version strings are used.
+     * @param oldVersions resolved versions, related to the current commit
+     * @param strategy fallback update strategy in case the newest version is not a pre or dev release
+     * @return a version string, which can be used for up-comming pre- or dev- releases.
+     */
+    public String incrementResolvedForPreRelease(Stream<? extends SemanticVersion> oldVersions,
+                    UpdateStrategy strategy)
+    {
+        if (!isPredefined())
+        {
+            return incrementForPreRelease(oldVersions.map(SemanticVersion::getVersion), strategy);
+        }
+        return getNewestResolvedVersion(oldVersions).map(v -> incrementForPreRelease(v, strategy))
+                                                    .orElse("1.0.0" + FIRST_PRE_RELEASE);
+    }
+
+    /**
+     * @return true if the predefined resolver and comparator are used, so resolved versions can be compared
+     */
+    private boolean isPredefined()
+    {
+        return comparator == VersionComparators.STRING_COMPARATOR && resolver instanceof SemanticVersionResolverImpl;
+    }
+
+    /**
+     * @param versions resolved versions
+     * @return the first of the newest versions or Optional.empty() for an empty stream
+     */
+    private static Optional<SemanticVersion> getNewestResolvedVersion(Stream<? extends SemanticVersion> versions)
+    {
+        return versions.map(SemanticVersion.class::cast)
+                       .reduce((a, b) -> VersionComparators.VERSION_COMPARATOR.compare(b, a) > 0 ? b : a);
+    }
+
+    /**
+     * @param versions versions
+     * @return the first of the newest versions or Optional.empty() for an empty stream
+     */
+    private Optional<String> getNewestVersion(Stream<String> versions)
+    {
+        if (!isPredefined())
+        {
+            return versions.reduce((a, b) -> comparator.compare(b, a) > 0 ? b : a);
+        }
+        // each version is resolved once, the version string of SemanticVersionImpl is the given string
+        return getNewestResolvedVersion(versions.map(resolver)).map(SemanticVersion::getVersion);
+    }
+
+    /**
+     * The predefined resolver and comparator resolve each version once, otherwise the comparator is used.
+     *
+     * @param versions not empty list of versions
+     * @return the first of the newest versions
+     */
+    private String getNewestVersion(List<String> versions)
+    {
+        if (!isPredefined())
+        {
+            return versions.stream().max(comparator).get();
+        }
+        SemanticVersion[] resolved = ((SemanticVersionResolverImpl)resolver).resolveAll(versions);
+        int newest = 0;
+        for (int i = 1; i < resolved.length; i++)
+        {
+            if (VersionComparators.VERSION_COMPARATOR.compare(resolved[i], resolved[newest]) > 0)
+            {
+                newest = i;
+            }
+        }
+        return versions.get(newest);
     }
 
     String incrementForRelease(String lastestVersion, UpdateStrategy strategy)
     {
-        SemanticVersion semVer = resolver.apply(lastestVersion);
+        return incrementForRelease(resolver.apply(lastestVersion), strategy);
+    }
+
+    private String incrementForRelease(SemanticVersion semVer, UpdateStrategy strategy)
+    {
         return isPreRelease(semVer.getReleaseType()) 
                         ? incrementForReleaseWithPreReleases(semVer, strategy)
                         : incrementForReleaseWithoutPreReleases(semVer, strategy);
@@ -97,6 +219,10 @@ public class SemanticVersionIncrementor
             case DEV:
             case STICK:
             default:
+                if (VersionMetrics.ENABLED)
+                {
+                    VersionMetrics.METRICS.errorPath("increment");
+                }
                 throw new IllegalArgumentException("Unknown or useless meaning provided " + strategy);
         }
         Optional<String> extension = semVer.getPlatformExtension();
@@ -129,15 +255,19 @@ public class SemanticVersionIncrementor
         {
             return "1.0.0" + FIRST_PRE_RELEASE;
         }
-        return oldVersions.stream().max(comparator).map(v -> incrementForPreRelease(v, strategy)).get();
+        return incrementForPreRelease(getNewestVersion(oldVersions), strategy);
     }
 
     private String incrementForPreRelease(String lastestVersion, UpdateStrategy strategy)
     {
-        SemanticVersion semVer = resolver.apply(lastestVersion);
+        return incrementForPreRelease(resolver.apply(lastestVersion), strategy);
+    }
+
+    private String incrementForPreRelease(SemanticVersion semVer, UpdateStrategy strategy)
+    {
         if (semVer.isRecommendedForProduction())
         {
-            return incrementForRelease(lastestVersion, strategy) + FIRST_PRE_RELEASE;
+            return incrementForRelease(semVer, strategy) + FIRST_PRE_RELEASE;
         }
         return semVer.incrementLastIncrement().toString();
     }
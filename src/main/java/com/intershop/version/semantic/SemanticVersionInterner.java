@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Returns one shared instance per distinct version string, so large catalogs with many equal version strings retain
+ * only one object graph per version. Also the extensions (e.g. alpha1, rc1, SNAPSHOT, jre8) of all interned versions
+ * are shared.
+ * <p>
+ * Instances are held weakly: interned versions, which are not used anymore, can be garbage collected. The interner is
+ * thread safe.
+ */
+public class SemanticVersionInterner implements Function<String, SemanticVersion>
+{
+    private final Function<String, SemanticVersion> resolver;
+    private final ConcurrentMap<String, WeakEntry<SemanticVersion>> versions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, WeakEntry<VersionExtensionItem>> extensions = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final LongAdder versionHits = new LongAdder();
+    private final LongAdder versionMisses = new LongAdder();
+    private final LongAdder extensionHits = new LongAdder();
+    private final LongAdder extensionMisses = new LongAdder();
+
+    /**
+     * Constructor with predefined version resolver
+     */
+    public SemanticVersionInterner()
+    {
+        this(new SemanticVersionResolverImpl());
+    }
+
+    /**
+     * Constructor with external defined resolver
+     * @param resolver converts a string to a semantic version
+     */
+    public SemanticVersionInterner(Function<String, SemanticVersion> resolver)
+    {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Same as {@link #intern(String)}
+     */
+    @Override
+    public SemanticVersion apply(String version)
+    {
+        return intern(version);
+    }
+
+    /**
+     * @param version version string
+     * @return shared semantic version for the given string
+     */
+    public SemanticVersion intern(String version)
+    {
+        expungeStaleEntries();
+        SemanticVersion result = get(versions, version);
+        if (VersionMetrics.ENABLED)
+        {
+            VersionMetrics.METRICS.cacheAccessed("versions", result != null);
+        }
+        if (result != null)
+        {
+            versionHits.increment();
+            return result;
+        }
+        versionMisses.increment();
+        SemanticVersion created = resolver.apply(version);
+        if (created instanceof SemanticVersionImpl)
+        {
+            created = new SemanticVersionImpl(version,
+                            ((SemanticVersionImpl)created).getItem().mapExtensions(this::internExtension));
+        }
+        return putIfAbsent(versions, version, created);
+    }
+
+    private VersionExtensionItem internExtension(VersionExtensionItem extension)
+    {
+        String key = extension.getExtensionType().name() + ':' + extension;
+        VersionExtensionItem result = get(extensions, key);
+        if (VersionMetrics.ENABLED)
+        {
+            VersionMetrics.METRICS.cacheAccessed("extensions", result != null);
+        }
+        if (result != null)
+        {
+            extensionHits.increment();
+            return result;
+        }
+        extensionMisses.increment();
+        return putIfAbsent(extensions, key, extension);
+    }
+
+    private static <T> T get(ConcurrentMap<String, WeakEntry<T>> map, String key)
+    {
+        WeakEntry<T> entry = map.get(key);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * @return the already existing value or the given value, if no (living) value exists
+     */
+    private <T> T putIfAbsent(ConcurrentMap<String, WeakEntry<T>> map, String key, T value)
+    {
+        WeakEntry<T> newEntry = new WeakEntry<>(map, key, value, queue);
+        while(true)
+        {
+            WeakEntry<T> existing = map.putIfAbsent(key, newEntry);
+            if (existing == null)
+            {
+                return value;
+            }
+            T existingValue = existing.get();
+            if (existingValue != null)
+            {
+                return existingValue;
+            }
+            if (map.replace(key, existing, newEntry))
+            {
+                return value;
+            }
+        }
+    }
+
+    private void expungeStaleEntries()
+    {
+        Object reference = queue.poll();
+        if (reference == null)
+        {
+            return;
+        }
+        VersionEvents.CacheEviction event = new VersionEvents.CacheEviction();
+        event.begin();
+        int evicted = 0;
+        for (; reference != null; reference = queue.poll())
+        {
+            ((WeakEntry<?>)reference).remove();
+            evicted++;
+        }
+        event.commit("interner", evicted);
+    }
+
+    /**
+     * @return amount of living interned versions
+     */
+    public int size()
+    {
+        expungeStaleEntries();
+        return versions.size();
+    }
+
+    /**
+     * @return amount of calls, which returned an already existing instance (each hit saves a complete version object
+     *         graph)
+     */
+    public long getVersionHits()
+    {
+        return versionHits.sum();
+    }
+
+    /**
+     * @return amount of calls, which created a new instance
+     */
+    public long getVersionMisses()
+    {
+        return versionMisses.sum();
+    }
+
+    /**
+     * @return amount of extensions of new instances, which are replaced by already existing extensions
+     */
+    public long getExtensionHits()
+    {
+        return extensionHits.sum();
+    }
+
+    /**
+     * @return amount of extensions of new instances, which are interned
+     */
+    public long getExtensionMisses()
+    {
+        return extensionMisses.sum();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SemanticVersionInterner [versions=" + size() + ", versionHits=" + getVersionHits()
+                        + ", versionMisses=" + getVersionMisses() + ", extensionHits=" + getExtensionHits()
+                        + ", extensionMisses=" + getExtensionMisses() + "]";
+    }
+
+    private static final class WeakEntry<T> extends WeakReference<T>
+    {
+        private final ConcurrentMap<String, WeakEntry<T>> map;
+        private final String key;
+
+        private WeakEntry(ConcurrentMap<String, WeakEntry<T>> map, String key, T value, ReferenceQueue<Object> queue)
+        {
+            super(value, queue);
+            this.map = map;
+            this.key = key;
+        }
+
+        private void remove()
+        {
+            map.remove(key, this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+/**
+ * Service provider interface for metrics of the library. All methods are no-ops by default.
+ * <p>
+ * An implementation is found with the {@link java.util.ServiceLoader} (file
+ * <code>META-INF/services/com.intershop.version.semantic.SemanticVersionMetrics</code>) when the library is loaded. It
+ * can forward the values to any metrics library, see {@link SemanticVersionMetricsRecorder} for an implementation with
+ * counters and a latency histogram. Without an implementation the library doesn't measure anything. Implementations
+ * must be thread safe.
+ */
+public interface SemanticVersionMetrics
+{
+    /**
+     * A version string was resolved
+     * @param nanos duration of the resolution in nanoseconds
+     */
+    default void parsed(long nanos)
+    {
+    }
+
+    /**
+     * A cache was used
+     * @param cache name of the cache (e.g. "versions" or "extensions" of the {@link SemanticVersionInterner})
+     * @param hit true if the value was found in the cache
+     */
+    default void cacheAccessed(String cache, boolean hit)
+    {
+    }
+
+    /**
+     * Versions were sorted by the library (comparisons of the comparators in other sorts are not counted, so the
+     * comparators have no overhead)
+     * @param size amount of sorted versions
+     * @param comparisons amount of comparisons of the sort
+     */
+    default void sorted(int size, long comparisons)
+    {
+    }
+
+    /**
+     * Candidates of a migration were checked
+     * @param strategy update strategy of the migration
+     * @param scanned amount of candidates
+     * @param accepted amount of candidates matching the strategy
+     */
+    default void migrationScanned(UpdateStrategy strategy, int scanned, int accepted)
+    {
+    }
+
+    /**
+     * An input was rejected or an exception is thrown
+     * @param operation name of the operation (e.g. "tryParse" or "migration")
+     */
+    default void errorPath(String operation)
+    {
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe {@link SemanticVersionMetrics} with counters and a latency histogram. The histogram has one bucket for
+ * each power of two nanoseconds, so bucket <code>i</code> counts durations from <code>2^(i-1)</code> (incl.) to
+ * <code>2^i</code> nanoseconds (excl.). It can be registered directly or extended to forward the values.
+ */
+public class SemanticVersionMetricsRecorder implements SemanticVersionMetrics
+{
+    /**
+     * amount of buckets of the latency histogram
+     */
+    public static final int BUCKETS = 64;
+
+    private final LongAdder[] parseLatency = new LongAdder[BUCKETS];
+    private final LongAdder parseNanos = new LongAdder();
+    private final Map<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> cacheMisses = new ConcurrentHashMap<>();
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final Map<UpdateStrategy, LongAdder> scanned = new EnumMap<>(UpdateStrategy.class);
+    private final Map<UpdateStrategy, LongAdder> accepted = new EnumMap<>(UpdateStrategy.class);
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the {@link java.util.ServiceLoader}
+     */
+    public SemanticVersionMetricsRecorder()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            parseLatency[i] = new LongAdder();
+        }
+        for (UpdateStrategy strategy : UpdateStrategy.values())
+        {
+            scanned.put(strategy, new LongAdder());
+            accepted.put(strategy, new LongAdder());
+        }
+    }
+
+    @Override
+    public void parsed(long nanos)
+    {
+        parseLatency[BUCKETS - Long.numberOfLeadingZeros(Math.max(0, nanos))].increment();
+        parseNanos.add(nanos);
+    }
+
+    @Override
+    public void cacheAccessed(String cache, boolean hit)
+    {
+        (hit ? cacheHits : cacheMisses).computeIfAbsent(cache, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void sorted(int size, long comparisons)
+    {
+        sorts.increment();
+        this.comparisons.add(comparisons);
+    }
+
+    @Override
+    public void migrationScanned(UpdateStrategy strategy, int scanned, int accepted)
+    {
+        this.scanned.get(strategy).add(scanned);
+        this.accepted.get(strategy).add(accepted);
+    }
+
+    @Override
+    public void errorPath(String operation)
+    {
+        errors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return amount of resolved versions
+     */
+    public long getParseCount()
+    {
+        long result = 0;
+        for (LongAdder bucket : parseLatency)
+        {
+            result += bucket.sum();
+        }
+        return result;
+    }
+
+    /**
+     * @return sum of the durations of all resolutions in nanoseconds
+     */
+    public long getParseNanos()
+    {
+        return parseNanos.sum();
+    }
+
+    /**
+     * @return amount of resolutions per bucket (see class description)
+     */
+    public long[] getParseLatencyHistogram()
+    {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            result[i] = parseLatency[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     * @param cache name of the cache
+     * @return amount of hits of the cache
+     */
+    public long getCacheHits(String cache)
+    {
+        return sum(cacheHits.get(cache));
+    }
+
+    /**
+     * @param cache name of the cache
+     * @return amount of misses of the cache
+     */
+    public long getCacheMisses(String cache)
+    {
+        return sum(cacheMisses.get(cache));
+    }
+
+    /**
+     * @return amount of sorts
+     */
+    public long getSorts()
+    {
+        return sorts.sum();
+    }
+
+    /**
+     * @return amount of comparisons of all sorts
+     */
+    public long getComparisons()
+    {
+        return comparisons.sum();
+    }
+
+    /**
+     * @param strategy update strategy
+     * @return amount of candidates scanned by migrations with the strategy
+     */
+    public long getScannedCandidates(UpdateStrategy strategy)
+    {
+        return scanned.get(strategy).sum();
+    }
+
+    /**
+     * @param strategy update strategy
+     * @return amount of candidates accepted by migrations with the strategy
+     */
+    public long getAcceptedCandidates(UpdateStrategy strategy)
+    {
+        return accepted.get(strategy).sum();
+    }
+
+    /**
+     * @param operation name of the operation
+     * @return amount of rejected inputs or exceptions of the operation
+     */
+    public long getErrors(String operation)
+    {
+        return sum(errors.get(operation));
+    }
+
+    private static long sum(LongAdder adder)
+    {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SemanticVersionMetricsRecorder [parsed=" + getParseCount() + ", sorts=" + getSorts()
+                        + ", comparisons=" + getComparisons() + ", errors=" + errors + "]";
+    }
+}
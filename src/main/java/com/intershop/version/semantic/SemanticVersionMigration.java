@@ -16,9 +16,14 @@
  */
 package com.intershop.version.semantic;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +31,11 @@ import java.util.stream.Collectors;
  */
 class SemanticVersionMigration
 {
+    /**
+     * amount of candidates, which are checked together by a paged search
+     */
+    static final int PAGE_SIZE = 1 << 14;
+
     private final SemanticVersionResolver resolver;
     private final Comparator<SemanticVersion> comparator;
 
@@ -69,100 +79,179 @@ class SemanticVersionMigration
      */
     public Optional<String> getMigration(UpdateStrategy allowedChanges, Collection<String> versions, String current)
     {
-        return getMigration(allowedChanges, versions.stream().map(this::valueOf).collect(Collectors.toList()),
-                        valueOf(current)).map(SemanticVersion::getVersion);
+        return getMigration(allowedChanges, valueOfCandidates(versions), valueOf(current))
+                        .map(SemanticVersion::getVersion);
+    }
+
+    /**
+     * Same as {@link #getMigration(UpdateStrategy, Collection, String)}, but the candidates are checked in pages, so
+     * the search can be stopped between two pages.
+     *
+     * @param allowedChanges update strategy
+     * @param versions available version
+     * @param current version
+     * @param stopped is checked before each page, the search is stopped if it returns true
+     * @return the newest version or Optional.empty() (also if the search was stopped)
+     */
+    Optional<String> getMigration(UpdateStrategy allowedChanges, Collection<String> versions, String current,
+                    BooleanSupplier stopped)
+    {
+        Optional<String> result = Optional.empty();
+        Iterator<String> iterator = versions.iterator();
+        List<String> page = new ArrayList<>(Math.min(versions.size(), PAGE_SIZE));
+        while(iterator.hasNext())
+        {
+            if (stopped.getAsBoolean())
+            {
+                return Optional.empty();
+            }
+            page.clear();
+            while(iterator.hasNext() && page.size() < PAGE_SIZE)
+            {
+                page.add(iterator.next());
+            }
+            result = getMigration(allowedChanges, page, current, result);
+        }
+        return result;
+    }
+
+    /**
+     * Checks a page of candidates together with the newest version of the previous pages.
+     *
+     * @param allowedChanges update strategy
+     * @param page available versions of the page
+     * @param current version
+     * @param previous newest version of the previous pages
+     * @return the newest version of the page and the previous pages or Optional.empty()
+     */
+    Optional<String> getMigration(UpdateStrategy allowedChanges, Collection<String> page, String current,
+                    Optional<String> previous)
+    {
+        if (previous.isEmpty())
+        {
+            return getMigration(allowedChanges, page, current);
+        }
+        List<String> candidates = new ArrayList<>(page.size() + 1);
+        candidates.add(previous.get());
+        candidates.addAll(page);
+        return Optional.of(getMigration(allowedChanges, candidates, current).orElse(previous.get()));
+    }
+
+    /**
+     * Candidates are mostly rejected by the major and minor version, so the extensions are resolved on demand, if the
+     * predefined resolver is used. Other resolvers resolve all candidates at once.
+     */
+    List<SemanticVersion> valueOfCandidates(Collection<String> versions)
+    {
+        if (resolver instanceof SemanticVersionResolverImpl)
+        {
+            return versions.stream().map(v -> LazySemanticVersion.of(v, resolver)).collect(Collectors.toList());
+        }
+        return Arrays.asList(resolver.resolveAll(versions));
     }
 
-    private Optional<SemanticVersion> getMigration(UpdateStrategy allowedChanges, Collection<SemanticVersion> versions,
+    /**
+     * Same as {@link #getMigration(UpdateStrategy, Collection, String)}, but for already resolved versions, so the
+     * candidates are not resolved again.
+     *
+     * @param allowedChanges update strategy
+     * @param versions available versions
+     * @param current version
+     * @return the newest version or Optional.empty()
+     */
+    Optional<SemanticVersion> getMigration(UpdateStrategy allowedChanges, Collection<SemanticVersion> versions,
                     SemanticVersion current)
     {
+        VersionEvents.Migration event = new VersionEvents.Migration();
+        event.begin();
+        SemanticVersionColumns columns = SemanticVersionColumns.of(versions);
         Optional<SemanticVersion> result;
         switch(allowedChanges)
         {
             case MAJOR:
-                result = getNewestMajorVersion(versions);
+                result = getNewestMajorVersion(columns);
                 break;
             case MINOR:
-                result = getNewestMinorVersion(versions, current);
+                result = getNewestMinorVersion(columns, current);
                 break;
             case PATCH:
-                result = getNewestPatchVersion(versions, current);
+                result = getNewestPatchVersion(columns, current);
                 break;
             case DEV:
-                result = getNewestAvailableVersion(versions);
+                result = getNewestAvailableVersion(columns);
                 break;
             case INC:
-                result = getNewestAvailableVersion(versions);
+                result = getNewestAvailableVersion(columns);
                 break;
             case STICK:
                 result = Optional.empty();
                 break;
             default:
+                if (VersionMetrics.ENABLED)
+                {
+                    VersionMetrics.METRICS.errorPath("migration");
+                }
                 throw new IllegalArgumentException("Unknown meaning provided");
         }
+        if (VersionMetrics.ENABLED)
+        {
+            VersionMetrics.METRICS.migrationScanned(allowedChanges, columns.size(), columns.getMatchCount());
+        }
         // don't return a number older than current (may develop is used)
         if (result.isPresent() && result.get().compareTo(current) <= 0)
         {
             result = Optional.empty();
         }
+        event.commit(allowedChanges, columns.size(), columns.getMatchCount(), result.isPresent());
         return result;
     }
 
     /**
      * Find release, where only the patch version is updated. (used for stabilization branches)
      * 
-     * @param versions available version
+     * @param columns available version
      * @param current version
      * @return the newest patch version or if no version could be determined the current
      */
-    private Optional<SemanticVersion> getNewestPatchVersion(Collection<SemanticVersion> versions,
-                    SemanticVersion current)
+    private Optional<SemanticVersion> getNewestPatchVersion(SemanticVersionColumns columns, SemanticVersion current)
     {
-        return versions.stream()
-                       .filter(v -> v.getMajor() == current.getMajor())
-                       .filter(v -> v.getMinor() == current.getMinor())
-                       .filter(SemanticVersion::isRecommendedForProduction)
-                       .max(comparator);
+        return columns.max(current.getMajor(), current.getMinor(), true, comparator);
     }
 
     /**
      * Find release, where only the patch version is updated. (used for stabilization branches)
      *
+     * @param columns available version
      * @param current version
-     * @param versions available version
      * @return the newest minor version or if no version could be determined the current
      */
-    private Optional<SemanticVersion> getNewestMinorVersion(Collection<SemanticVersion> versions,
-                    SemanticVersion current)
+    private Optional<SemanticVersion> getNewestMinorVersion(SemanticVersionColumns columns, SemanticVersion current)
     {
-        return versions.stream()
-                       .filter(v -> v.getMajor() == current.getMajor())
-                       .filter(SemanticVersion::isRecommendedForProduction)
-                       .max(comparator);
+        return columns.max(current.getMajor(), SemanticVersionColumns.ANY, true, comparator);
     }
 
     /**
      * Find release, where major,minor,patch version can be updated. (used external dependencies for trunk/master/main)
      *
-     * @param versions available version
+     * @param columns available version
      * @return the newest major version or if no version could be determined the current
      */
-    private Optional<SemanticVersion> getNewestMajorVersion(Collection<SemanticVersion> versions)
+    private Optional<SemanticVersion> getNewestMajorVersion(SemanticVersionColumns columns)
     {
-        return versions.stream().filter(SemanticVersion::isRecommendedForProduction).max(comparator);
+        return columns.max(SemanticVersionColumns.ANY, SemanticVersionColumns.ANY, true, comparator);
     }
 
     /**
      * Find any increment, where major,minor,patch,increment can be updated. (used internal dependencies for
      * trunk/master)
      *
-     * @param versions available version
+     * @param columns available version
      * @return the newest major version or if no version could be determined the current, also non production versions
      *         can be selected.
      */
-    private Optional<SemanticVersion> getNewestAvailableVersion(Collection<SemanticVersion> versions)
+    private Optional<SemanticVersion> getNewestAvailableVersion(SemanticVersionColumns columns)
     {
-        return versions.stream().max(comparator);
+        return columns.max(SemanticVersionColumns.ANY, SemanticVersionColumns.ANY, false, comparator);
     }
 
     /**
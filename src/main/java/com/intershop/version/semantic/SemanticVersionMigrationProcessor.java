@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Searches the newest version for an update strategy in candidates, which arrive in pages (e.g. pages of a repository
+ * search). Each page is checked by the executor together with the newest version of the previous pages, and each newer
+ * version found so far is published to the subscribers. Pages are requested one by one, so the next page is requested
+ * after the previous page was checked. Versions are dropped for a subscriber with a full buffer, so a slow subscriber
+ * may miss versions found so far.
+ * <p>
+ * The final result is available as {@link #getNewestVersion() future}. Cancelling the future or completing it
+ * otherwise (e.g. with {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit) a deadline}) cancels
+ * the subscription of the pages and completes the subscribers with an error.
+ */
+public class SemanticVersionMigrationProcessor extends SubmissionPublisher<String>
+                implements Flow.Processor<Collection<String>, String>
+{
+    private final SemanticVersionMigration migration = new SemanticVersionMigration();
+    private final UpdateStrategy strategy;
+    private final String current;
+    private final Executor executor;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    // signals of the pages are processed in order by the executor
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    private volatile Flow.Subscription subscription;
+    // only changed by the processing of a page
+    private volatile Optional<String> newest = Optional.empty();
+
+    /**
+     * @param strategy update strategy
+     * @param current current version
+     * @param executor checks the pages and delivers the versions to the subscribers
+     * @return processor, which is cancelled with its result future
+     */
+    public static SemanticVersionMigrationProcessor of(UpdateStrategy strategy, String current, Executor executor)
+    {
+        SemanticVersionMigrationProcessor result = new SemanticVersionMigrationProcessor(strategy, current, executor);
+        // registered after the construction, so the callback never sees a partly constructed processor
+        result.result.whenComplete((version, e) -> {
+            if (e != null)
+            {
+                result.cancel(e);
+            }
+        });
+        return result;
+    }
+
+    private SemanticVersionMigrationProcessor(UpdateStrategy strategy, String current, Executor executor)
+    {
+        super(executor, Flow.defaultBufferSize());
+        this.strategy = strategy;
+        this.current = current;
+        this.executor = executor;
+    }
+
+    /**
+     * Cancels the subscription of the pages and completes the subscribers with the error
+     */
+    private void cancel(Throwable error)
+    {
+        Flow.Subscription pages = subscription;
+        if (pages != null)
+        {
+            pages.cancel();
+        }
+        closeExceptionally(error);
+    }
+
+    /**
+     * @return future of the newest version after the last page or the current version, if no newer version was found
+     */
+    public CompletableFuture<String> getNewestVersion()
+    {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription pages)
+    {
+        if (subscription != null || result.isDone())
+        {
+            pages.cancel();
+            return;
+        }
+        subscription = pages;
+        pages.request(1);
+    }
+
+    @Override
+    public void onNext(Collection<String> page)
+    {
+        schedule(() -> {
+            if (result.isDone())
+            {
+                return;
+            }
+            Optional<String> found = migration.getMigration(strategy, page, current, newest);
+            if (!found.equals(newest))
+            {
+                newest = found;
+                // don't block the executor for a slow subscriber, only the newest version matters
+                offer(found.get(), null);
+            }
+            subscription.request(1);
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable)
+    {
+        schedule(() -> result.completeExceptionally(throwable));
+    }
+
+    @Override
+    public void onComplete()
+    {
+        schedule(() -> {
+            if (result.complete(newest.orElse(current)))
+            {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Signals are sent one after another, so the chain of pending steps is not changed concurrently.
+     */
+    private void schedule(Runnable step)
+    {
+        pending = pending.thenRunAsync(step, executor).exceptionally(e -> {
+            result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.Optional;
+
+/**
+ * Result of {@link SemanticVersion#tryParse(String)}: the version or the position and the reason, why the string is
+ * not a valid version.
+ */
+public class SemanticVersionParseResult
+{
+    private final String input;
+    private final SemanticVersion version;
+    private final int errorPosition;
+    private final String errorMessage;
+
+    private SemanticVersionParseResult(String input, SemanticVersion version, int errorPosition, String errorMessage)
+    {
+        this.input = input;
+        this.version = version;
+        this.errorPosition = errorPosition;
+        this.errorMessage = errorMessage;
+    }
+
+    static SemanticVersionParseResult valid(String input, SemanticVersion version)
+    {
+        return new SemanticVersionParseResult(input, version, -1, null);
+    }
+
+    static SemanticVersionParseResult invalid(String input, int errorPosition, String errorMessage)
+    {
+        return new SemanticVersionParseResult(input, null, errorPosition, errorMessage);
+    }
+
+    /**
+     * @return parsed string
+     */
+    public String getInput()
+    {
+        return input;
+    }
+
+    /**
+     * @return true if the string is a valid version
+     */
+    public boolean isValid()
+    {
+        return version != null;
+    }
+
+    /**
+     * @return the version or Optional.empty() if the string is not valid
+     */
+    public Optional<SemanticVersion> getVersion()
+    {
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     * @return position of the first invalid character in the string or -1 if the string is valid
+     */
+    public int getErrorPosition()
+    {
+        return errorPosition;
+    }
+
+    /**
+     * @return description of the error or Optional.empty() if the string is valid
+     */
+    public Optional<String> getErrorMessage()
+    {
+        return Optional.ofNullable(errorMessage);
+    }
+
+    @Override
+    public String toString()
+    {
+        return isValid() ? "valid: " + input : "invalid: " + input + " at " + errorPosition + " (" + errorMessage + ")";
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Sorts (lowest first) very large lists of versions with a LSD radix sort over fixed width keys (version numbers,
+ * release type and rank of the extension). The comparator is only used for versions, which can't be distinguished by
+ * the key (e.g. more than four version numbers or multiple extensions).
+ * <p>
+ * The sorter reuses its scratch buffers for following calls, so instances are not thread safe.
+ */
+public class SemanticVersionRadixSorter
+{
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGITS_PER_KEY = Long.SIZE / DIGIT_BITS;
+
+    private final Function<String, SemanticVersion> resolver;
+    private final int[] counts = new int[RADIX];
+    private long[] highScratch = new long[0];
+    private long[] lowScratch = new long[0];
+    private int[] indexScratch = new int[0];
+
+    /**
+     * Constructor with predefined version resolver
+     */
+    public SemanticVersionRadixSorter()
+    {
+        this(new SemanticVersionResolverImpl());
+    }
+
+    /**
+     * Constructor with external defined resolver
+     * @param resolver converts a string to a semantic version
+     */
+    public SemanticVersionRadixSorter(Function<String, SemanticVersion> resolver)
+    {
+        this.resolver = resolver;
+    }
+
+    /**
+     * @param versions versions to sort
+     * @return new sorted list (lowest first)
+     */
+    public List<SemanticVersion> sort(Collection<? extends SemanticVersion> versions)
+    {
+        SemanticVersion[] result = versions.toArray(new SemanticVersion[0]);
+        sort(result);
+        return Arrays.asList(result);
+    }
+
+    /**
+     * @param versions versions to sort
+     * @return new sorted list of the given strings (lowest first)
+     */
+    public List<String> sortStrings(Collection<String> versions)
+    {
+        SemanticVersion[] parsed = new SemanticVersion[versions.size()];
+        int i = 0;
+        for (String version : versions)
+        {
+            parsed[i++] = resolver.apply(version);
+        }
+        sort(parsed);
+        String[] result = new String[parsed.length];
+        for (i = 0; i < result.length; i++)
+        {
+            result[i] = parsed[i].getVersion();
+        }
+        return Arrays.asList(result);
+    }
+
+    private void sort(SemanticVersion[] versions)
+    {
+        VersionEvents.Sort event = new VersionEvents.Sort();
+        event.begin();
+        sortVersions(versions);
+        event.commit(versions.length, false);
+    }
+
+    private void sortVersions(SemanticVersion[] versions)
+    {
+        for (SemanticVersion version : versions)
+        {
+            if (!(version instanceof SemanticVersionImpl))
+            {
+                Arrays.sort(versions, VersionComparators.VERSION_COMPARATOR);
+                return;
+            }
+        }
+        int size = versions.length;
+        if (size < 2)
+        {
+            return;
+        }
+        long[] high = new long[size];
+        long[] low = new long[size];
+        int[] index = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            SemanticVersionImpl version = (SemanticVersionImpl)versions[i];
+            high[i] = VersionSortKey.of(version);
+            low[i] = VersionSortKey.rank(version);
+            index[i] = i;
+        }
+        sortKeys(high, low, index, size);
+        SemanticVersion[] source = versions.clone();
+        for (int i = 0; i < size; i++)
+        {
+            versions[i] = source[index[i]];
+        }
+        resolveCollisions(versions, high, low, index);
+    }
+
+    /**
+     * Sorts the keys (high, low) and the index stable with a LSD radix sort.
+     */
+    private void sortKeys(long[] high, long[] low, int[] index, int size)
+    {
+        ensureScratchCapacity(size);
+        long[] high0 = high, low0 = low;
+        int[] index0 = index;
+        long[] high1 = highScratch, low1 = lowScratch;
+        int[] index1 = indexScratch;
+        for (int pass = 0; pass < 2 * DIGITS_PER_KEY; pass++)
+        {
+            boolean isLow = pass < DIGITS_PER_KEY;
+            int shift = (pass % DIGITS_PER_KEY) * DIGIT_BITS;
+            long[] keys = isLow ? low0 : high0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++)
+            {
+                counts[digit(keys[i], shift)]++;
+            }
+            // a pass with a single digit value doesn't change the order
+            if (counts[digit(keys[0], shift)] == size)
+            {
+                continue;
+            }
+            for (int i = 0, sum = 0; i < RADIX; i++)
+            {
+                int count = counts[i];
+                counts[i] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                int target = counts[digit(keys[i], shift)]++;
+                high1[target] = high0[i];
+                low1[target] = low0[i];
+                index1[target] = index0[i];
+            }
+            long[] swapLong = high0;
+            high0 = high1;
+            high1 = swapLong;
+            swapLong = low0;
+            low0 = low1;
+            low1 = swapLong;
+            int[] swapInt = index0;
+            index0 = index1;
+            index1 = swapInt;
+        }
+        if (high0 != high)
+        {
+            System.arraycopy(high0, 0, high, 0, size);
+            System.arraycopy(low0, 0, low, 0, size);
+            System.arraycopy(index0, 0, index, 0, size);
+        }
+    }
+
+    private static int digit(long key, int shift)
+    {
+        // flip the sign bit, so that negative values (unranked) are sorted before all other values
+        return (int)(((key ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+    }
+
+    /**
+     * Sorts all ranges of versions with the same key, where the key doesn't define the order.
+     */
+    private static void resolveCollisions(SemanticVersion[] versions, long[] high, long[] low, int[] index)
+    {
+        int start = 0;
+        while(start < versions.length)
+        {
+            int end = start + 1;
+            boolean collision = VersionSortKey.isDeep(high[start]) || low[start] == VersionSortKey.UNRANKED;
+            while(end < versions.length && high[end] == high[start])
+            {
+                collision |= low[end] == VersionSortKey.UNRANKED;
+                end++;
+            }
+            if (collision && end - start > 1)
+            {
+                sortByComparator(versions, index, start, end);
+            }
+            start = end;
+        }
+    }
+
+    private static void sortByComparator(SemanticVersion[] versions, int[] index, int start, int end)
+    {
+        Integer[] positions = new Integer[end - start];
+        for (int i = 0; i < positions.length; i++)
+        {
+            positions[i] = start + i;
+        }
+        // the original position keeps the result stable
+        Comparator<Integer> comparator = (a, b) -> {
+            int result = VersionComparators.VERSION_IMPL_COMPARATOR.compare((SemanticVersionImpl)versions[a],
+                            (SemanticVersionImpl)versions[b]);
+            return result != 0 ? result : Integer.compare(index[a], index[b]);
+        };
+        Arrays.sort(positions, comparator);
+        SemanticVersion[] sortedVersions = new SemanticVersion[positions.length];
+        int[] sortedIndex = new int[positions.length];
+        for (int i = 0; i < positions.length; i++)
+        {
+            sortedVersions[i] = versions[positions[i]];
+            sortedIndex[i] = index[positions[i]];
+        }
+        System.arraycopy(sortedVersions, 0, versions, start, positions.length);
+        System.arraycopy(sortedIndex, 0, index, start, positions.length);
+    }
+
+    private void ensureScratchCapacity(int size)
+    {
+        if (highScratch.length < size)
+        {
+            highScratch = new long[size];
+            lowScratch = new long[size];
+            indexScratch = new int[size];
+        }
+    }
+}
@@ -16,13 +16,88 @@
  */
 package com.intershop.version.semantic;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 interface SemanticVersionResolver extends Function<String, SemanticVersion>
 {
+    /**
+     * minimum amount of distinct versions of a collection, which are resolved in parallel, and minimum size of a
+     * spliterator, which is split
+     */
+    int PARALLEL_THRESHOLD = 1 << 12;
+
     /**
      * @param version
      * @return converted version 
      */
     SemanticVersion apply(String version);
+
+    /**
+     * Resolves all versions. Equal strings are resolved once (and share the version), large collections are resolved
+     * in parallel.
+     *
+     * @param versions versions to resolve
+     * @return resolved versions in the order of the given versions
+     */
+    default SemanticVersion[] resolveAll(Collection<String> versions)
+    {
+        String[] input = versions.toArray(new String[0]);
+        int[] positions = new int[input.length];
+        Map<String, Integer> distinctPositions = new HashMap<>();
+        String[] distinct = new String[input.length];
+        int distinctCount = 0;
+        for (int i = 0; i < input.length; i++)
+        {
+            Integer position = distinctPositions.putIfAbsent(input[i], distinctCount);
+            if (position == null)
+            {
+                position = distinctCount;
+                distinct[distinctCount++] = input[i];
+            }
+            positions[i] = position;
+        }
+        SemanticVersion[] resolved = new SemanticVersion[distinctCount];
+        IntStream indexes = IntStream.range(0, distinctCount);
+        (distinctCount < PARALLEL_THRESHOLD ? indexes : indexes.parallel())
+                        .forEach(i -> resolved[i] = apply(distinct[i]));
+        SemanticVersion[] result = new SemanticVersion[input.length];
+        for (int i = 0; i < input.length; i++)
+        {
+            result[i] = resolved[positions[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Resolves all versions of the stream (in parallel, if the stream is parallel). Consecutive equal strings are
+     * resolved once, other duplicates are resolved again, so no memory grows with the size of the stream. Parts of a
+     * parallel stream with less than {@link #PARALLEL_THRESHOLD} versions are not split.
+     *
+     * @param versions versions to resolve
+     * @return stream of resolved versions in the order of the given stream
+     */
+    default Stream<SemanticVersion> resolveAll(Stream<String> versions)
+    {
+        boolean parallel = versions.isParallel();
+        return StreamSupport.stream(resolveAll(versions.spliterator()), parallel).onClose(versions::close);
+    }
+
+    /**
+     * Resolves all versions of the spliterator. Consecutive equal strings are resolved once.
+     *
+     * @param versions versions to resolve
+     * @return spliterator of resolved versions, which splits the given spliterator, but not into parts with less than
+     *         {@link #PARALLEL_THRESHOLD} versions
+     */
+    default Spliterator<SemanticVersion> resolveAll(Spliterator<String> versions)
+    {
+        return new ResolvingSpliterator(versions, this);
+    }
 }
@@ -6,14 +6,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 class SemanticVersionResolverImpl implements SemanticVersionResolver
 {
-    private static final Pattern DECIMAL_NONDECIMAL_SPLIT = Pattern.compile("^(\\d+)(\\D+)");
-    private static final Pattern NONDECIMAL_DECIMAL_SPLIT = Pattern.compile("^(\\D+)(\\d+)");
     private static final Map<String, ExtensionType> MAP_EXTENSION_TO_TYPE = new HashMap<>();
     static
     {
@@ -39,8 +35,11 @@ class SemanticVersionResolverImpl implements SemanticVersionResolver
         MAP_EXTENSION_TO_TYPE.put("sp", ExtensionType.POST);
     }
     private static final Map<String, String> MAP_EXTENSION_TO_ITEM_EXTENSION = new HashMap<>();
-    // artificial number to identify build numbers or dates as increment, which are not incrementable
-    private static final Integer MAX_SEMANTIC_NUMBER = 10_000;
+    // parts of the version, which are reused by the resolving thread
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+    // numbers with more (significant) digits are build numbers or dates, which are not incrementable
+    private static final int MAX_SEMANTIC_NUMBER_DIGITS = 4;
+    private static final int NO_VERSION_NUMBER = -1;
     static
     {
         // ga alias
@@ -63,149 +62,274 @@ class SemanticVersionResolverImpl implements SemanticVersionResolver
     @Override
     public SemanticVersion apply(String version)
     {
-        int firstDash = version.indexOf("-");
-        List<String> parts = Collections.emptyList();
-        List<String> extensions = Collections.emptyList();
-        if (firstDash > 0)
+        VersionEvents.Parse event = new VersionEvents.Parse();
+        event.begin();
+        long start = VersionMetrics.ENABLED ? System.nanoTime() : 0;
+        SemanticVersion result = resolve(version);
+        if (VersionMetrics.ENABLED)
         {
-            parts = splitVersion(version.substring(0, firstDash));
-            extensions = splitVersion(version.substring(firstDash + 1));
+            VersionMetrics.METRICS.parsed(System.nanoTime() - start);
         }
-        else
+        event.commit(version);
+        return result;
+    }
+
+    private SemanticVersion resolve(String version)
+    {
+        Scratch scratch = SCRATCH.get();
+        try
         {
-            parts = splitVersion(version);
+            int snapshot = TimestampedSnapshot.find(version);
+            if (snapshot != TimestampedSnapshot.NOT_FOUND)
+            {
+                return buildVersion(version, resolveSnapshot(version, snapshot, scratch));
+            }
+            int firstDash = version.indexOf("-");
+            if (firstDash > 0)
+            {
+                splitVersion(version, 0, firstDash, scratch.parts);
+                splitVersion(version, firstDash + 1, version.length(), scratch.extensions);
+            }
+            else
+            {
+                splitVersion(version, 0, version.length(), scratch.parts);
+            }
+            return buildVersion(version, convertToItem(scratch.parts, scratch.extensions));
+        }
+        finally
+        {
+            scratch.clear();
         }
-        VersionItem items = convertToItem(parts, extensions);
-        return buildVersion(version, items);
     }
 
-    List<String> splitVersion(String version)
+    /**
+     * A timestamped snapshot is resolved like its base version, the timestamp and build number are added as numbers
+     * of a DEV extension without a word. The extensions of the suffix (e.g. "-jre8") follow the DEV extension.
+     */
+    private VersionItem resolveSnapshot(String version, int dash, Scratch scratch)
     {
-        String[] parts = version.split("[.-]");
-        List<String> result = new ArrayList<>();
-        for (int i = 0; i < parts.length; i++)
+        splitVersion(version, 0, dash, scratch.parts);
+        int suffix = TimestampedSnapshot.getBuildEnd(version, dash);
+        if (suffix < version.length())
+        {
+            splitVersion(version, suffix + 1, version.length(), scratch.extensions);
+        }
+        VersionItem base = convertToItem(scratch.parts, Collections.emptyList());
+        return convertToItem(TimestampedSnapshot.addTo(base, version, dash), Collections.emptyList(),
+                        scratch.extensions);
+    }
+
+    /**
+     * Parses the version without exceptions. The version is rejected, if it contains empty segments, whitespace or
+     * control characters or no version number.
+     *
+     * @param version version string (can be null)
+     * @return parse result with the version or the position of the error
+     */
+    SemanticVersionParseResult tryParse(String version)
+    {
+        SemanticVersionParseResult result = parse(version);
+        if (VersionMetrics.ENABLED && !result.isValid())
         {
-            String partOfVersion = parts[i].toLowerCase(Locale.US);
-            Optional<Integer> optNumber = getVersionNumberSegment(partOfVersion);
-            if (optNumber.isPresent())
+            VersionMetrics.METRICS.errorPath("tryParse");
+        }
+        return result;
+    }
+
+    private SemanticVersionParseResult parse(String version)
+    {
+        if (version == null || version.isEmpty())
+        {
+            return SemanticVersionParseResult.invalid(version, 0, "version is empty");
+        }
+        int length = version.length();
+        for (int pos = 0; pos < length; pos++)
+        {
+            char c = version.charAt(pos);
+            if (Character.isWhitespace(c) || Character.isISOControl(c))
             {
-                result.add(partOfVersion);
-                continue;
+                return SemanticVersionParseResult.invalid(version, pos, "invalid character");
             }
-            if (NONDECIMAL_DECIMAL_SPLIT.matcher(partOfVersion).find()
-                            || DECIMAL_NONDECIMAL_SPLIT.matcher(partOfVersion).find())
+            if (isSeparator(c) && (pos == 0 || pos == length - 1 || isSeparator(version.charAt(pos - 1))))
             {
-                result.addAll(splitWordNumber(partOfVersion));
-                continue;
+                return SemanticVersionParseResult.invalid(version, pos, "empty segment");
             }
-            result.add(partOfVersion);
         }
-        return result;
+        SemanticVersionImpl result = (SemanticVersionImpl)apply(version);
+        if (result.getNumbers().isEmpty())
+        {
+            return SemanticVersionParseResult.invalid(version, 0, "no version number");
+        }
+        return SemanticVersionParseResult.valid(version, result);
     }
 
-    private List<String> splitWordNumber(String part)
+    /**
+     * Splits the version at "." and "-" (empty parts at the end are removed) and each part into words and numbers
+     * (e.g. "alpha1" into "alpha" and "1").
+     */
+    List<String> splitVersion(String version)
     {
         List<String> result = new ArrayList<>();
-        String openPart = part;
-        while(!openPart.isEmpty())
+        splitVersion(version, 0, version.length(), result);
+        return result;
+    }
+
+    /**
+     * Same as {@link #splitVersion(String)} for a part of the version
+     *
+     * @param version version string
+     * @param from start of the part
+     * @param to end of the part (exclusive)
+     * @param result receives the parts
+     */
+    private static void splitVersion(String version, int from, int to, List<String> result)
+    {
+        if (from == to)
+        {
+            // same as String.split: an empty version is kept
+            result.add("");
+            return;
+        }
+        int lastNonEmpty = result.size();
+        int start = from;
+        for (int pos = from; pos <= to; pos++)
         {
-            Matcher matcher = NONDECIMAL_DECIMAL_SPLIT.matcher(openPart);
-            if (matcher.find())
+            if (pos == to || isSeparator(version.charAt(pos)))
             {
-                result.add(matcher.group(1));
-                result.add(matcher.group(2));
-                openPart = openPart.substring(matcher.group(0).length());
-                continue;
+                if (pos > start)
+                {
+                    splitWordNumber(version.substring(start, pos).toLowerCase(Locale.US), result);
+                    lastNonEmpty = result.size();
+                }
+                else if (pos < to)
+                {
+                    result.add("");
+                }
+                start = pos + 1;
             }
-            matcher = DECIMAL_NONDECIMAL_SPLIT.matcher(openPart);
-            if (matcher.find())
+        }
+        // same as String.split: empty parts at the end are removed
+        result.subList(lastNonEmpty, result.size()).clear();
+    }
+
+    /**
+     * Adds the alternating digit and non digit runs of the part to the result
+     */
+    private static void splitWordNumber(String part, List<String> result)
+    {
+        int start = 0;
+        for (int pos = 1; pos <= part.length(); pos++)
+        {
+            if (pos == part.length() || isDigit(part.charAt(pos)) != isDigit(part.charAt(pos - 1)))
             {
-                result.add(matcher.group(1));
-                result.add(matcher.group(2));
-                openPart = openPart.substring(matcher.group(0).length());
-                continue;
+                result.add(start == 0 && pos == part.length() ? part : part.substring(start, pos));
+                start = pos;
             }
-            result.add(openPart);
-            openPart = "";
         }
-        return result;
     }
 
     VersionItem convertToItem(List<String> parts, List<String> extensions)
     {
-        VersionItem result = VersionItem.emptyVersion();
-        List<String> preDashExtensions = new ArrayList<>();
+        return convertToItem(VersionItem.emptyVersion(), parts, extensions);
+    }
+
+    /**
+     * @param start item with the already resolved version numbers
+     * @param parts remaining parts before the first dash
+     * @param extensions parts after the first dash
+     * @return resolved item
+     */
+    VersionItem convertToItem(VersionItem start, List<String> parts, List<String> extensions)
+    {
+        VersionItem result = start;
+        // all parts after the first extension are handled like the parts after the dash
+        boolean extensionFound = false;
         for (String currentPosition : parts)
         {
-            // is that an integer for a version number
-            Optional<Integer> optNumber = getVersionNumberSegment(currentPosition);
-
             // was an extension found before
-            if (result.getExtension().isEmpty())
+            extensionFound = extensionFound || !result.getExtension().isEmpty();
+            if (!extensionFound)
             {
                 // is that a integer for a version number
-                if (optNumber.isPresent())
+                int number = getVersionNumberSegment(currentPosition);
+                if (number != NO_VERSION_NUMBER)
                 {
-                    result = result.addNumber(optNumber.get());
+                    result = result.addNumber(number);
+                }
+                else if (isNumber(currentPosition))
+                {
+                    // build number or date
+                    result = result.addExtensionNumber(currentPosition);
                 }
                 else
                 {
-                    if (isNumber(currentPosition))
-                    {
-                        try
-                        {
-                            result = result.addExtensionNumber(currentPosition);
-                        }
-                        catch(NumberFormatException e)
-                        {
-                            result = result.addExtension(getReleaseType(currentPosition),
-                                            getReleaseExtension(currentPosition));
-                        }
-                    }
-                    else
-                    {
-                        result = result.addExtension(getReleaseType(currentPosition),
-                                        getReleaseExtension(currentPosition));
-                    }
+                    result = result.addExtension(getReleaseType(currentPosition),
+                                    getReleaseExtension(currentPosition));
                 }
             }
             else
             {
-                preDashExtensions.add(currentPosition);
+                result = addExtensionPart(result, currentPosition);
             }
         }
-        preDashExtensions.addAll(extensions);
-        for (String currentPosition : preDashExtensions)
+        for (String currentPosition : extensions)
         {
-            // is that an integer for a version number
-            if (isNumber(currentPosition))
+            result = addExtensionPart(result, currentPosition);
+        }
+        return result;
+    }
+
+    private static VersionItem addExtensionPart(VersionItem result, String currentPosition)
+    {
+        // is that an integer for a version number
+        if (isNumber(currentPosition))
+        {
+            // extension exists - so at to extension 1.1 vs 1-1
+            result = result.addExtensionNumber(currentPosition);
+            // type could be NEUTRAL or GA but with a number extension this needs to be changed
+            if (result.getReleaseType().equals(ExtensionType.NEUTRAL)
+                            || result.getReleaseType().equals(ExtensionType.GA))
             {
-                // extension exists - so at to extension 1.1 vs 1-1
-                result = result.addExtensionNumber(currentPosition);
-                // type could be NEUTRAL or GA but with a number extension this needs to be changed
-                if (result.getReleaseType().equals(ExtensionType.NEUTRAL)
-                                || result.getReleaseType().equals(ExtensionType.GA))
-                {
-                    // if extension is 0 it's not relevant so at 1 == 1-0
-                    result = result.setReleaseType(isNull(currentPosition) ? ExtensionType.GA : ExtensionType.UNSPECIFIED);
-                }
+                // if extension is 0 it's not relevant so at 1 == 1-0
+                result = result.setReleaseType(isNull(currentPosition) ? ExtensionType.GA : ExtensionType.UNSPECIFIED);
             }
-            else
+            return result;
+        }
+        return result.addExtension(getReleaseType(currentPosition), getReleaseExtension(currentPosition));
+    }
+
+    private static boolean isNull(String releaseExtension)
+    {
+        for (int i = 0; i < releaseExtension.length(); i++)
+        {
+            if (releaseExtension.charAt(i) != '0')
             {
-                result = result.addExtension(getReleaseType(currentPosition), getReleaseExtension(currentPosition));
+                return false;
             }
         }
-        return result;
+        return !releaseExtension.isEmpty();
     }
 
-    private boolean isNull(String releaseExtension)
+    private static boolean isNumber(String releaseExtension)
     {
-        return releaseExtension.matches("^0+$");
+        for (int i = 0; i < releaseExtension.length(); i++)
+        {
+            if (!isDigit(releaseExtension.charAt(i)))
+            {
+                return false;
+            }
+        }
+        return !releaseExtension.isEmpty();
     }
 
-    private boolean isNumber(String releaseExtension)
+    private static boolean isDigit(char c)
     {
-        return releaseExtension.matches("^\\d+$");
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c)
+    {
+        return c == '.' || c == '-';
     }
 
     private SemanticVersion buildVersion(String version, VersionItem item)
@@ -213,34 +337,79 @@ class SemanticVersionResolverImpl implements SemanticVersionResolver
         return new SemanticVersionImpl(version, item);
     }
 
-    private static ExtensionType getReleaseType(String lowerCased)
+    static ExtensionType getReleaseType(String lowerCased)
     {
-        return MAP_EXTENSION_TO_TYPE.computeIfAbsent(lowerCased, (a) -> ExtensionType.UNSPECIFIED);
+        return MAP_EXTENSION_TO_TYPE.getOrDefault(lowerCased, ExtensionType.UNSPECIFIED);
     }
 
-    private static String getReleaseExtension(String lowerCased)
+    static String getReleaseExtension(String lowerCased)
     {
-        return MAP_EXTENSION_TO_ITEM_EXTENSION.computeIfAbsent(lowerCased, (a) -> a);
+        return MAP_EXTENSION_TO_ITEM_EXTENSION.getOrDefault(lowerCased, lowerCased);
     }
 
     /**
-     * @param part of version (e.g. "1.0.0.v20100202" will split to {"1","0","0","v","20100202")
-     * @return a number in case the number exists and is lower than 19700101 assuming that is a data)
+     * @return all extension words and aliases (lower case) known by the resolver
      */
-    private static Optional<Integer> getVersionNumberSegment(String part)
+    static Set<String> getExtensionAliases()
     {
-        try
+        return Collections.unmodifiableSet(MAP_EXTENSION_TO_TYPE.keySet());
+    }
+
+    /**
+     * Per thread buffers of {@link #apply(String)}
+     */
+    private static final class Scratch
+    {
+        // larger buffers are not kept after an unusual long version
+        private static final int MAX_KEPT_PARTS = 64;
+
+        private List<String> parts = new ArrayList<>();
+        private List<String> extensions = new ArrayList<>();
+
+        private void clear()
+        {
+            parts = clear(parts);
+            extensions = clear(extensions);
+        }
+
+        private static List<String> clear(List<String> list)
         {
-            Integer value = part.matches("^\\d+$") ? Integer.parseInt(part) : null;
-            if (value != null && value < MAX_SEMANTIC_NUMBER)
+            if (list.size() > MAX_KEPT_PARTS)
             {
-                return Optional.of(value);
+                return new ArrayList<>();
             }
+            list.clear();
+            return list;
+        }
+    }
+
+    /**
+     * Classifies the digits by the amount of significant digits, so large numbers are not parsed.
+     *
+     * @param part of version (e.g. "1.0.0.v20100202" will split to {"1","0","0","v","20100202")
+     * @return the number in case the part is a number lower than 10000 (larger numbers are build numbers or dates),
+     *         otherwise {@link #NO_VERSION_NUMBER}
+     */
+    private static int getVersionNumberSegment(String part)
+    {
+        if (!isNumber(part))
+        {
+            return NO_VERSION_NUMBER;
+        }
+        int firstSignificant = 0;
+        while(firstSignificant < part.length() - 1 && part.charAt(firstSignificant) == '0')
+        {
+            firstSignificant++;
         }
-        catch(NumberFormatException e)
+        if (part.length() - firstSignificant > MAX_SEMANTIC_NUMBER_DIGITS)
         {
-            // decimal but too large
+            return NO_VERSION_NUMBER;
         }
-        return Optional.empty();
+        int result = 0;
+        for (int i = firstSignificant; i < part.length(); i++)
+        {
+            result = result * 10 + part.charAt(i) - '0';
+        }
+        return result;
     }
 }
@@ -16,7 +16,21 @@
  */
 package com.intershop.version.semantic;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides migration strategies for libraries
@@ -40,6 +54,64 @@ public class SemanticVersions
         return SEMANTIC_VERSION_MIGRATION.getMigration(allowedChanges, versions, current).orElse(current);
     }
 
+    /**
+     * Same as {@link #getNewestVersion(UpdateStrategy, Collection, String)}, but the versions are checked by the
+     * executor. The candidates are checked in pages: if the returned future is cancelled or completed otherwise (e.g.
+     * by {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}), the search is stopped before the
+     * next page. The versions must not be modified until the future is completed.
+     *
+     * @param allowedChanges update strategy
+     * @param versions available version
+     * @param current version
+     * @param executor executor of the search
+     * @return future of the newest version or the current version
+     */
+    public static CompletableFuture<String> getNewestVersionAsync(UpdateStrategy allowedChanges,
+                    Collection<String> versions, String current, Executor executor)
+    {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try
+        {
+            executor.execute(() -> {
+                try
+                {
+                    Optional<String> newest = SEMANTIC_VERSION_MIGRATION.getMigration(allowedChanges, versions,
+                                    current, result::isDone);
+                    result.complete(newest.orElse(current));
+                }
+                catch(Throwable e)
+                {
+                    // also errors (e.g. OutOfMemoryError) complete the future, otherwise it would never complete
+                    result.completeExceptionally(e);
+                }
+            });
+        }
+        catch(RejectedExecutionException e)
+        {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #getNewestVersionAsync(UpdateStrategy, Collection, String, Executor)} with a deadline. The
+     * future is completed with a {@link java.util.concurrent.TimeoutException} and the search is stopped, if the
+     * search takes longer than the timeout.
+     *
+     * @param allowedChanges update strategy
+     * @param versions available version
+     * @param current version
+     * @param executor executor of the search
+     * @param timeout maximum duration of the search
+     * @return future of the newest version or the current version
+     */
+    public static CompletableFuture<String> getNewestVersionAsync(UpdateStrategy allowedChanges,
+                    Collection<String> versions, String current, Executor executor, Duration timeout)
+    {
+        return getNewestVersionAsync(allowedChanges, versions, current, executor).orTimeout(timeout.toNanos(),
+                        TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Verify that a new version can be reached with a given update strategy
      * @param oldVersion Old version
@@ -51,4 +123,146 @@ public class SemanticVersions
     {
         return SEMANTIC_VERSION_MIGRATION.isMigrationStepPossible(oldVersion, newVersion, strategy);
     }
+
+    /**
+     * Sorts versions (lowest first) with the semantic order of {@link SemanticVersion#compareTo(Object)}. Large lists
+     * are sorted in parallel with precomputed sort keys.
+     *
+     * @param versions versions to sort
+     * @return new sorted list
+     */
+    public static List<SemanticVersion> sort(Collection<? extends SemanticVersion> versions)
+    {
+        return VersionSorter.sort(versions);
+    }
+
+    /**
+     * Sorts version strings (lowest first) with the semantic order of {@link SemanticVersion#compareTo(Object)}. Each
+     * string is parsed only once.
+     *
+     * @param versions versions to sort
+     * @return new sorted list of the given strings
+     */
+    public static List<String> sortStrings(Collection<String> versions)
+    {
+        return VersionSorter.sortStrings(versions);
+    }
+
+    /**
+     * Find the newest versions without sorting all versions.
+     *
+     * @param limit maximum amount of returned versions
+     * @param versions available versions
+     * @return the newest versions (newest first)
+     */
+    public static List<String> getNewestVersions(int limit, Collection<String> versions)
+    {
+        VersionTopK topK = new VersionTopK(limit, null, null);
+        versions.forEach(topK::offer);
+        return topK.getResult().stream().map(SemanticVersion::getVersion).collect(Collectors.toList());
+    }
+
+    /**
+     * Find the newest versions, which are reachable with the given update strategy.
+     *
+     * @param limit maximum amount of returned versions
+     * @param allowedChanges update strategy
+     * @param versions available versions
+     * @param current version
+     * @return the newest versions (newest first), which are newer than the current version
+     */
+    public static List<String> getNewestVersions(int limit, UpdateStrategy allowedChanges,
+                    Collection<String> versions, String current)
+    {
+        VersionTopK topK = new VersionTopK(limit, allowedChanges, SemanticVersion.valueOf(current));
+        versions.forEach(topK::offer);
+        return topK.getResult().stream().map(SemanticVersion::getVersion).collect(Collectors.toList());
+    }
+
+    /**
+     * Find the newest versions without sorting all versions.
+     *
+     * @param limit maximum amount of returned versions
+     * @param versions available versions
+     * @return the newest versions (newest first)
+     */
+    public static List<SemanticVersion> getNewestSemanticVersions(int limit,
+                    Collection<? extends SemanticVersion> versions)
+    {
+        VersionTopK topK = new VersionTopK(limit, null, null);
+        versions.forEach(topK::offer);
+        return topK.getResult();
+    }
+
+    /**
+     * Merges sorted (lowest first) sources into one sorted iterator in a single pass. Versions with the same semantic
+     * meaning (e.g. "1.0" and "1.0.0") are returned once, the version of the first source is kept.
+     *
+     * @param sources sorted sources (e.g. versions of different repositories)
+     * @return sorted iterator without duplicates
+     */
+    public static Iterator<SemanticVersion> mergeSorted(List<? extends Iterator<? extends SemanticVersion>> sources)
+    {
+        return mergeSorted(sources, (kept, duplicate) -> kept);
+    }
+
+    /**
+     * Merges sorted (lowest first) sources into one sorted iterator in a single pass. Versions with the same semantic
+     * meaning (e.g. "1.0" and "1.0.0") are returned once.
+     *
+     * @param sources sorted sources (e.g. versions of different repositories)
+     * @param duplicateResolver returns the kept version of two versions with the same semantic meaning, the first
+     *            parameter is the version of the former source
+     * @return sorted iterator without duplicates
+     */
+    public static Iterator<SemanticVersion> mergeSorted(List<? extends Iterator<? extends SemanticVersion>> sources,
+                    BinaryOperator<SemanticVersion> duplicateResolver)
+    {
+        return new VersionMergeIterator(sources, VersionComparators.VERSION_COMPARATOR, duplicateResolver);
+    }
+
+    /**
+     * Merges sorted (lowest first) streams into one sorted stream. Versions with the same semantic meaning (e.g. "1.0"
+     * and "1.0.0") are returned once.
+     *
+     * @param sources sorted streams (e.g. versions of different repositories)
+     * @param duplicateResolver returns the kept version of two versions with the same semantic meaning, the first
+     *            parameter is the version of the former source
+     * @return sorted stream without duplicates, closing the stream closes all sources
+     */
+    public static Stream<SemanticVersion> mergeSortedStreams(List<? extends Stream<? extends SemanticVersion>> sources,
+                    BinaryOperator<SemanticVersion> duplicateResolver)
+    {
+        List<Iterator<? extends SemanticVersion>> iterators = sources.stream()
+                                                                     .map(Stream::iterator)
+                                                                     .collect(Collectors.toList());
+        Iterator<SemanticVersion> merged = mergeSorted(iterators, duplicateResolver);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(() -> sources.forEach(Stream::close));
+    }
+
+    /**
+     * Removes versions with the same semantic meaning (e.g. "1.0", "1.0.0" and "1-ga") with hashing (no sorting).
+     *
+     * @param versions versions
+     * @return first version of each semantic meaning in the order of the given versions
+     */
+    public static List<String> distinct(Collection<String> versions)
+    {
+        return groupBySemanticMeaning(versions).stream().map(g -> g.get(0)).collect(Collectors.toList());
+    }
+
+    /**
+     * Groups versions with the same semantic meaning (e.g. "1.0", "1.0.0" and "1-ga") with hashing (no sorting).
+     *
+     * @param versions versions
+     * @return groups of versions with the same semantic meaning in the order of the given versions
+     */
+    public static List<List<String>> groupBySemanticMeaning(Collection<String> versions)
+    {
+        VersionGroups groups = new VersionGroups();
+        versions.forEach(groups::add);
+        return groups.getGroups();
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of Maven timestamped snapshots (e.g. "1.2.0-20240101.120102-17") by the snapshot version ("1.2.0-SNAPSHOT").
+ * The builds of a snapshot version are kept sorted by the timestamp and the build number as primitives, so the newest
+ * build is available in constant time and old builds can be removed by time. The versions are not resolved.
+ * <p>
+ * The index is thread safe.
+ */
+public class SnapshotIndex
+{
+    private final Map<String, Builds> snapshots = new HashMap<>();
+
+    /**
+     * @param version version to add
+     * @return true if the version is a timestamped snapshot, which was not part of the index
+     */
+    public synchronized boolean add(String version)
+    {
+        int dash = TimestampedSnapshot.find(version);
+        if (dash == TimestampedSnapshot.NOT_FOUND)
+        {
+            return false;
+        }
+        return snapshots.computeIfAbsent(TimestampedSnapshot.getSnapshotVersion(version, dash), k -> new Builds())
+                        .add(TimestampedSnapshot.getEpochSecond(version, dash),
+                                        TimestampedSnapshot.getBuildNumber(version, dash), version);
+    }
+
+    /**
+     * @param versions versions to add, versions which are no timestamped snapshots are ignored
+     * @return amount of added versions
+     */
+    public int addAll(Iterable<String> versions)
+    {
+        int result = 0;
+        for (String version : versions)
+        {
+            result += add(version) ? 1 : 0;
+        }
+        return result;
+    }
+
+    /**
+     * @param snapshotVersion snapshot version (e.g. "1.2.0-SNAPSHOT")
+     * @return newest build of the snapshot version (e.g. "1.2.0-20240101.120102-17") or Optional.empty() if the index
+     *         contains no build
+     */
+    public synchronized Optional<String> getNewestBuild(String snapshotVersion)
+    {
+        Builds builds = snapshots.get(snapshotVersion);
+        return builds == null ? Optional.empty() : Optional.of(builds.versions[builds.size - 1]);
+    }
+
+    /**
+     * @param snapshotVersion snapshot version (e.g. "1.2.0-SNAPSHOT")
+     * @return builds of the snapshot version, oldest first
+     */
+    public synchronized List<String> getBuilds(String snapshotVersion)
+    {
+        Builds builds = snapshots.get(snapshotVersion);
+        return builds == null ? Collections.emptyList()
+                        : Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(builds.versions, builds.size)));
+    }
+
+    /**
+     * @return snapshot versions with at least one build
+     */
+    public synchronized Set<String> getSnapshotVersions()
+    {
+        return Collections.unmodifiableSet(new TreeSet<>(snapshots.keySet()));
+    }
+
+    /**
+     * @return amount of builds of all snapshot versions
+     */
+    public synchronized int size()
+    {
+        int result = 0;
+        for (Builds builds : snapshots.values())
+        {
+            result += builds.size;
+        }
+        return result;
+    }
+
+    /**
+     * Removes builds with a timestamp before the given time. The newest build of each snapshot version is kept, so
+     * {@link #getNewestBuild(String)} still finds it.
+     *
+     * @param before builds with an older timestamp are removed
+     * @return amount of removed builds
+     */
+    public synchronized int prune(Instant before)
+    {
+        long epochSecond = before.getEpochSecond() + (before.getNano() > 0 ? 1 : 0);
+        int result = 0;
+        for (Builds builds : snapshots.values())
+        {
+            result += builds.removeBefore(epochSecond);
+        }
+        return result;
+    }
+
+    /**
+     * Builds of one snapshot version sorted by timestamp and build number
+     */
+    private static final class Builds
+    {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private int[] numbers = new int[INITIAL_CAPACITY];
+        private String[] versions = new String[INITIAL_CAPACITY];
+        private int size;
+
+        private boolean add(long timestamp, int number, String version)
+        {
+            // builds are usually added in order
+            int pos = size == 0 || compare(size - 1, timestamp, number) < 0 ? size : search(timestamp, number);
+            if (pos < size && compare(pos, timestamp, number) == 0)
+            {
+                return false;
+            }
+            if (size == timestamps.length)
+            {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                numbers = Arrays.copyOf(numbers, size * 2);
+                versions = Arrays.copyOf(versions, size * 2);
+            }
+            System.arraycopy(timestamps, pos, timestamps, pos + 1, size - pos);
+            System.arraycopy(numbers, pos, numbers, pos + 1, size - pos);
+            System.arraycopy(versions, pos, versions, pos + 1, size - pos);
+            timestamps[pos] = timestamp;
+            numbers[pos] = number;
+            versions[pos] = version;
+            size++;
+            return true;
+        }
+
+        /**
+         * @return amount of removed builds
+         */
+        private int removeBefore(long timestamp)
+        {
+            // the newest build is kept
+            int removed = Math.min(search(timestamp, Integer.MIN_VALUE), size - 1);
+            if (removed <= 0)
+            {
+                return 0;
+            }
+            size -= removed;
+            System.arraycopy(timestamps, removed, timestamps, 0, size);
+            System.arraycopy(numbers, removed, numbers, 0, size);
+            System.arraycopy(versions, removed, versions, 0, size);
+            Arrays.fill(versions, size, size + removed, null);
+            return removed;
+        }
+
+        /**
+         * @return position of the first build, which is not lower than the given build
+         */
+        private int search(long timestamp, int number)
+        {
+            int low = 0;
+            int high = size;
+            while(low < high)
+            {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, timestamp, number) < 0)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int pos, long timestamp, int number)
+        {
+            int result = Long.compare(timestamps[pos], timestamp);
+            return result != 0 ? result : Integer.compare(numbers[pos], number);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolver with a fast path for strict SemVer 2.0 versions (MAJOR.MINOR.PATCH[-prerelease][+build]). Strict versions
+ * are validated in one pass, the version numbers are taken over directly and the identifiers are converted to
+ * extension numbers and words without splitting the version into strings. All other versions and strict versions with
+ * large numbers (build numbers or dates) in MAJOR.MINOR.PATCH are resolved with the heuristic resolver.
+ * <p>
+ * The extensions of strict versions are interpreted like the heuristic resolver does, so both paths create the same
+ * versions (equal, same order and same semantic). The resolver is thread safe and counts, how often each path is used.
+ */
+public class StrictSemanticVersionResolver implements SemanticVersionResolver
+{
+    private static final int CORE_NUMBERS = 3;
+    // larger numbers are build numbers or dates for the heuristic resolver
+    private static final int MAX_SEMANTIC_NUMBER_DIGITS = 4;
+
+    private final SemanticVersionResolverImpl heuristicResolver = new SemanticVersionResolverImpl();
+    private final LongAdder strictCount = new LongAdder();
+    private final LongAdder heuristicCount = new LongAdder();
+
+    @Override
+    public SemanticVersion apply(String version)
+    {
+        // timestamped snapshots are valid SemVer versions, but the timestamp is resolved by the heuristic resolver
+        VersionItem item = TimestampedSnapshot.find(version) == TimestampedSnapshot.NOT_FOUND ? resolveStrict(version)
+                        : null;
+        if (item == null)
+        {
+            heuristicCount.increment();
+            return heuristicResolver.apply(version);
+        }
+        strictCount.increment();
+        return new SemanticVersionImpl(version, item);
+    }
+
+    /**
+     * @param version version string
+     * @return true if the version is a valid SemVer 2.0 version
+     */
+    public static boolean isStrict(String version)
+    {
+        return scanCore(version, new int[CORE_NUMBERS]) >= 0;
+    }
+
+    /**
+     * @return amount of versions resolved with the strict fast path
+     */
+    public long getStrictCount()
+    {
+        return strictCount.sum();
+    }
+
+    /**
+     * @return amount of versions resolved with the heuristic resolver
+     */
+    public long getHeuristicCount()
+    {
+        return heuristicCount.sum();
+    }
+
+    /**
+     * @return resolved item or null, if the version is not a strict version or contains large numbers
+     */
+    private static VersionItem resolveStrict(String version)
+    {
+        int[] core = new int[CORE_NUMBERS];
+        int coreEnd = scanCore(version, core);
+        // the heuristic resolver moves large numbers to the extensions
+        if (coreEnd < 0 || core[0] < 0 || core[1] < 0 || core[2] < 0)
+        {
+            return null;
+        }
+        VersionItem result = VersionItem.ofNumbers(core[0], core[1], core[2]);
+        int length = version.length();
+        if (coreEnd == length)
+        {
+            return result;
+        }
+        // like the heuristic resolver, the identifiers are separated at the first dash (build identifiers can
+        // contain dashes), numbers before the dash are version numbers until an extension is found (e.g. "1.2.3+4")
+        int firstDash = version.indexOf('-', coreEnd);
+        if (firstDash < 0)
+        {
+            return addIdentifiers(result, version, coreEnd, length, true);
+        }
+        if (firstDash > coreEnd)
+        {
+            result = addIdentifiers(result, version, coreEnd, firstDash, true);
+        }
+        return addIdentifiers(result, version, firstDash + 1, length, false);
+    }
+
+    /**
+     * Adds the identifiers of a range as extensions. Identifiers are separated by "." and "-" and consist of numbers
+     * and words (e.g. "alpha1" is "alpha" and 1). Empty identifiers at the end of the range are ignored and an empty
+     * range is one empty identifier.
+     *
+     * @param versionNumbers true if numbers are version numbers until the first extension
+     */
+    private static VersionItem addIdentifiers(VersionItem item, String version, int from, int to,
+                    boolean versionNumbers)
+    {
+        if (from == to)
+        {
+            return addWord(item, "");
+        }
+        VersionItem result = item;
+        int emptyIdentifiers = 0;
+        int start = from;
+        for (int pos = from; pos <= to; pos++)
+        {
+            if (pos == to || version.charAt(pos) == '.' || version.charAt(pos) == '-')
+            {
+                if (pos == start)
+                {
+                    emptyIdentifiers++;
+                }
+                else
+                {
+                    for (; emptyIdentifiers > 0; emptyIdentifiers--)
+                    {
+                        result = addWord(result, "");
+                    }
+                    result = addRuns(result, version, start, pos, !versionNumbers);
+                }
+                start = pos + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the alternating number and word runs of an identifier
+     *
+     * @param extensionFound false if numbers are version numbers until the first extension
+     */
+    private static VersionItem addRuns(VersionItem item, String version, int from, int to, boolean extensionFound)
+    {
+        VersionItem result = item;
+        boolean found = extensionFound;
+        int start = from;
+        for (int pos = from + 1; pos <= to; pos++)
+        {
+            if (pos == to || isDigit(version.charAt(pos)) != isDigit(version.charAt(pos - 1)))
+            {
+                found = found || !result.getExtension().isEmpty();
+                if (!isDigit(version.charAt(start)))
+                {
+                    result = addWord(result, version.substring(start, pos).toLowerCase(Locale.US));
+                }
+                else if (found)
+                {
+                    result = addNumber(result, version, start, pos);
+                }
+                else
+                {
+                    result = addVersionNumber(result, version, start, pos);
+                }
+                start = pos;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a version number or a large number (build number or date) as extension number
+     */
+    private static VersionItem addVersionNumber(VersionItem item, String version, int from, int to)
+    {
+        int firstSignificant = from;
+        while(firstSignificant < to - 1 && version.charAt(firstSignificant) == '0')
+        {
+            firstSignificant++;
+        }
+        if (to - firstSignificant > MAX_SEMANTIC_NUMBER_DIGITS)
+        {
+            return item.addExtensionNumber(version.substring(from, to));
+        }
+        int number = 0;
+        for (int i = firstSignificant; i < to; i++)
+        {
+            number = number * 10 + version.charAt(i) - '0';
+        }
+        return item.addNumber(number);
+    }
+
+    private static VersionItem addNumber(VersionItem item, String version, int from, int to)
+    {
+        VersionItem result = item.addExtensionNumber(version.substring(from, to));
+        ExtensionType type = result.getReleaseType();
+        if (type == ExtensionType.NEUTRAL || type == ExtensionType.GA)
+        {
+            // a zero is not relevant (1 == 1-0), other numbers are an unspecified extension
+            boolean zero = true;
+            for (int i = from; i < to && zero; i++)
+            {
+                zero = version.charAt(i) == '0';
+            }
+            result = result.setReleaseType(zero ? ExtensionType.GA : ExtensionType.UNSPECIFIED);
+        }
+        return result;
+    }
+
+    private static VersionItem addWord(VersionItem item, String word)
+    {
+        return item.addExtension(SemanticVersionResolverImpl.getReleaseType(word),
+                        SemanticVersionResolverImpl.getReleaseExtension(word));
+    }
+
+    /**
+     * Validates the complete version and scans the major, minor and patch version
+     *
+     * @param version version string
+     * @param core receives the major, minor and patch version (-1 if the number is a large number, which is resolved by
+     *            the heuristic resolver)
+     * @return end of the major, minor and patch version or -1 if the version is not a strict SemVer version
+     */
+    private static int scanCore(String version, int[] core)
+    {
+        int length = version.length();
+        int pos = 0;
+        for (int i = 0; i < CORE_NUMBERS; i++)
+        {
+            int start = pos;
+            int value = 0;
+            while(pos < length && isDigit(version.charAt(pos)))
+            {
+                value = pos - start < MAX_SEMANTIC_NUMBER_DIGITS ? value * 10 + version.charAt(pos) - '0' : -1;
+                pos++;
+            }
+            // numeric identifiers must not have leading zeros
+            if (pos == start || version.charAt(start) == '0' && pos - start > 1)
+            {
+                return -1;
+            }
+            core[i] = value;
+            if (i < CORE_NUMBERS - 1)
+            {
+                if (pos == length || version.charAt(pos) != '.')
+                {
+                    return -1;
+                }
+                pos++;
+            }
+        }
+        int coreEnd = pos;
+        if (pos < length && version.charAt(pos) == '-')
+        {
+            pos = scanIdentifiers(version, pos + 1, true);
+        }
+        if (pos >= 0 && pos < length && version.charAt(pos) == '+')
+        {
+            pos = scanIdentifiers(version, pos + 1, false);
+        }
+        return pos == length ? coreEnd : -1;
+    }
+
+    /**
+     * @return end of the dot separated identifiers or -1 if an identifier is invalid
+     */
+    private static int scanIdentifiers(String version, int from, boolean preRelease)
+    {
+        int length = version.length();
+        int pos = from;
+        while(true)
+        {
+            int start = pos;
+            boolean numeric = true;
+            while(pos < length && isIdentifierChar(version.charAt(pos)))
+            {
+                numeric &= isDigit(version.charAt(pos));
+                pos++;
+            }
+            if (pos == start || preRelease && numeric && version.charAt(start) == '0' && pos - start > 1)
+            {
+                return -1;
+            }
+            if (pos == length || version.charAt(pos) != '.')
+            {
+                return pos;
+            }
+            pos++;
+        }
+    }
+
+    private static boolean isDigit(char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierChar(char c)
+    {
+        return isDigit(c) || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-';
+    }
+
+    @Override
+    public String toString()
+    {
+        return "StrictSemanticVersionResolver [strict=" + getStrictCount() + ", heuristic=" + getHeuristicCount() + "]";
+    }
+}
@@ -0,0 +1,210 @@
+package com.intershop.version.semantic;
+
+import java.time.LocalDate;
+
+/**
+ * Recognizes Maven unique snapshot versions (e.g. "1.2.0-20240101.120102-17"), that are the base version followed by a
+ * dash, the UTC timestamp "yyyyMMdd.HHmmss", a dash, the build number and an optional suffix (e.g. "-jre8"). The base
+ * version is a plain version number (digits and dots), versions with a qualified base (e.g.
+ * "1.0-SNAPSHOT-20240101.120102-1") are resolved like other versions. The version is checked in one pass without
+ * creating objects.
+ * <p>
+ * The resolver keeps the timestamp and the build number as numbers of an extension without word, so the version is
+ * rendered like the input (extension "20240101.120102.17"). The extension is a {@link ExtensionType#DEV dev}
+ * extension, so "1.2.0-20240101.120102-17" is a dev release after "1.2.0-SNAPSHOT" and builds are ordered by the
+ * timestamp and the build number. The timestamp and the build number as primitives are only used to sort builds (see
+ * {@link SnapshotIndex}).
+ */
+class TimestampedSnapshot
+{
+    /**
+     * result of {@link #find(CharSequence)} for versions without timestamp
+     */
+    static final int NOT_FOUND = -1;
+
+    private static final int DATE_DIGITS = 8;
+    private static final int TIME_DIGITS = 6;
+    private static final int MAX_BUILD_DIGITS = 9;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private TimestampedSnapshot()
+    {
+    }
+
+    /**
+     * @param version version string
+     * @return position of the dash before the timestamp or {@link #NOT_FOUND} if the version is not a timestamped
+     *         snapshot
+     */
+    static int find(CharSequence version)
+    {
+        int length = version.length();
+        int dash = 0;
+        while(dash < length && (isDigit(version.charAt(dash)) || version.charAt(dash) == '.'))
+        {
+            dash++;
+        }
+        // the base version must be a version number, which starts and ends with a digit
+        if (dash == 0 || dash == length || version.charAt(dash) != '-' || !isDigit(version.charAt(0))
+                        || !isDigit(version.charAt(dash - 1)))
+        {
+            return NOT_FOUND;
+        }
+        int date = dash + 1;
+        int time = date + DATE_DIGITS + 1;
+        int build = time + TIME_DIGITS + 1;
+        if (build >= length || version.charAt(time - 1) != '.' || version.charAt(build - 1) != '-'
+                        || !isDigits(version, date, DATE_DIGITS) || !isDigits(version, time, TIME_DIGITS))
+        {
+            return NOT_FOUND;
+        }
+        int buildEnd = getBuildEnd(version, dash);
+        // the suffix starts with a dash and must not be empty
+        if (buildEnd == build || buildEnd - build > MAX_BUILD_DIGITS
+                        || buildEnd < length && (version.charAt(buildEnd) != '-' || buildEnd == length - 1))
+        {
+            return NOT_FOUND;
+        }
+        int month = number(version, date + 4, 2);
+        int day = number(version, date + 6, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(number(version, date, 4), month)
+                        || number(version, time, 2) > 23 || number(version, time + 2, 2) > 59
+                        || number(version, time + 4, 2) > 59)
+        {
+            return NOT_FOUND;
+        }
+        return dash;
+    }
+
+    /**
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return position after the build number, which is the dash of the suffix or the length of the version
+     */
+    static int getBuildEnd(CharSequence version, int dash)
+    {
+        int pos = getBuildStart(dash);
+        while(pos < version.length() && isDigit(version.charAt(pos)))
+        {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int getBuildStart(int dash)
+    {
+        return dash + DATE_DIGITS + TIME_DIGITS + 3;
+    }
+
+    /**
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return seconds of the timestamp since the epoch
+     */
+    static long getEpochSecond(CharSequence version, int dash)
+    {
+        int date = dash + 1;
+        int time = date + DATE_DIGITS + 1;
+        long days = LocalDate.of(number(version, date, 4), number(version, date + 4, 2), number(version, date + 6, 2))
+                             .toEpochDay();
+        return days * SECONDS_PER_DAY + number(version, time, 2) * 3600 + number(version, time + 2, 2) * 60
+                        + number(version, time + 4, 2);
+    }
+
+    /**
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return build number
+     */
+    static int getBuildNumber(CharSequence version, int dash)
+    {
+        int build = getBuildStart(dash);
+        return number(version, build, getBuildEnd(version, dash) - build);
+    }
+
+    /**
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return the version with "SNAPSHOT" instead of the timestamp and the build number (e.g. "1.2.0-SNAPSHOT" or
+     *         "1.2.0-SNAPSHOT-jre8")
+     */
+    static String getSnapshotVersion(String version, int dash)
+    {
+        return version.substring(0, dash + 1) + "SNAPSHOT" + version.substring(getBuildEnd(version, dash));
+    }
+
+    /**
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return the next build with the same timestamp (e.g. "1.2.0-20240101.120102-18" for
+     *         "1.2.0-20240101.120102-17"), which is newer than the given build
+     */
+    static String incrementBuild(String version, int dash)
+    {
+        int buildEnd = getBuildEnd(version, dash);
+        return version.substring(0, getBuildStart(dash)) + (getBuildNumber(version, dash) + 1L)
+                        + version.substring(buildEnd);
+    }
+
+    /**
+     * Adds the timestamp and the build number as numbers of a dev extension without word
+     *
+     * @param item resolved base version
+     * @param version timestamped snapshot
+     * @param dash result of {@link #find(CharSequence)}
+     * @return item with the extension
+     */
+    static VersionItem addTo(VersionItem item, String version, int dash)
+    {
+        int date = dash + 1;
+        int time = date + DATE_DIGITS + 1;
+        int build = time + TIME_DIGITS + 1;
+        return item.addExtension(ExtensionType.DEV, "")
+                   .addExtensionNumber(version.substring(date, date + DATE_DIGITS))
+                   .addExtensionNumber(version.substring(time, time + TIME_DIGITS))
+                   .addExtensionNumber(version.substring(build, getBuildEnd(version, dash)));
+    }
+
+    private static boolean isDigits(CharSequence version, int from, int length)
+    {
+        for (int i = from; i < from + length; i++)
+        {
+            if (!isDigit(version.charAt(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int number(CharSequence version, int from, int length)
+    {
+        int result = 0;
+        for (int i = from; i < from + length; i++)
+        {
+            result = result * 10 + version.charAt(i) - '0';
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month)
+    {
+        switch(month)
+        {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isDigit(char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+}
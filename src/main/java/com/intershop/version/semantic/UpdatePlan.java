@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Result of an {@link UpdatePlanner}: one entry per dependency (sorted by the artifact) with the new version, the
+ * reason and the time of the evaluation.
+ */
+public class UpdatePlan
+{
+    /**
+     * Result of the evaluation of a dependency
+     */
+    public enum Reason
+    {
+        /**
+         * a newer version is reachable with the update strategy
+         */
+        UPDATE,
+        /**
+         * no newer version is reachable with the update strategy
+         */
+        UP_TO_DATE,
+        /**
+         * the dependency is pinned (update strategy STICK)
+         */
+        PINNED,
+        /**
+         * a newer version was found, but the migration step is not possible with the update strategy
+         */
+        NOT_REACHABLE,
+        /**
+         * no versions are available for the artifact
+         */
+        NO_VERSIONS,
+        /**
+         * the current version is not a valid version
+         */
+        INVALID_VERSION,
+        /**
+         * the evaluation failed, see {@link Entry#getError()}
+         */
+        FAILED
+    }
+
+    private final List<Entry> entries;
+    private final long nanos;
+
+    UpdatePlan(List<Entry> entries, long nanos)
+    {
+        this.entries = Collections.unmodifiableList(entries);
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return all entries sorted by the artifact
+     */
+    public List<Entry> getEntries()
+    {
+        return entries;
+    }
+
+    /**
+     * @return entries with a new version (reason {@link Reason#UPDATE})
+     */
+    public List<Entry> getUpdates()
+    {
+        return getEntries(Reason.UPDATE);
+    }
+
+    /**
+     * @param reason reason of the entries
+     * @return entries with the given reason
+     */
+    public List<Entry> getEntries(Reason reason)
+    {
+        return entries.stream().filter(e -> e.getReason() == reason).collect(Collectors.toList());
+    }
+
+    /**
+     * @param artifact artifact of the dependency
+     * @return entry of the artifact or Optional.empty()
+     */
+    public Optional<Entry> getEntry(String artifact)
+    {
+        // binary search, the entries are sorted by the artifact
+        int low = 0;
+        int high = entries.size() - 1;
+        while(low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            Entry entry = entries.get(middle);
+            int result = entry.getArtifact().compareTo(artifact);
+            if (result == 0)
+            {
+                return Optional.of(entry);
+            }
+            if (result < 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param unit time unit of the result
+     * @return elapsed time of the complete evaluation
+     */
+    public long getDuration(TimeUnit unit)
+    {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString()
+    {
+        return entries.stream().map(Entry::toString).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Evaluation of one dependency
+     */
+    public static class Entry
+    {
+        private final String artifact;
+        private final String currentVersion;
+        private final UpdateStrategy strategy;
+        private final String newVersion;
+        private final Reason reason;
+        private final String error;
+        private final long nanos;
+
+        Entry(String artifact, String currentVersion, UpdateStrategy strategy, String newVersion, Reason reason,
+                        String error, long nanos)
+        {
+            this.artifact = artifact;
+            this.currentVersion = currentVersion;
+            this.strategy = strategy;
+            this.newVersion = newVersion;
+            this.reason = reason;
+            this.error = error;
+            this.nanos = nanos;
+        }
+
+        public String getArtifact()
+        {
+            return artifact;
+        }
+
+        public String getCurrentVersion()
+        {
+            return currentVersion;
+        }
+
+        /**
+         * @return update strategy of the policy
+         */
+        public UpdateStrategy getStrategy()
+        {
+            return strategy;
+        }
+
+        /**
+         * @return newer version (also for {@link Reason#NOT_REACHABLE}) or Optional.empty()
+         */
+        public Optional<String> getNewVersion()
+        {
+            return Optional.ofNullable(newVersion);
+        }
+
+        public Reason getReason()
+        {
+            return reason;
+        }
+
+        /**
+         * @return error message of a failed evaluation or Optional.empty()
+         */
+        public Optional<String> getError()
+        {
+            return Optional.ofNullable(error);
+        }
+
+        /**
+         * @param unit time unit of the result
+         * @return elapsed time of the evaluation of this entry
+         */
+        public long getDuration(TimeUnit unit)
+        {
+            return unit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString()
+        {
+            return artifact + " " + currentVersion + (newVersion == null ? "" : " -> " + newVersion) + " (" + reason
+                            + ", " + strategy + (error == null ? "" : ", " + error) + ")";
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Plans the updates of many dependencies (e.g. the managed dependencies of a BOM). Each artifact has an update
+ * strategy policy: the policy of the artifact itself, otherwise the policy of the most specific matching glob (e.g.
+ * "com.example:*", "*" matches any characters and "?" one character) and otherwise the default strategy.
+ * <p>
+ * The dependencies are independent of each other and are evaluated in parallel without shared locks. The planner is
+ * thread safe.
+ */
+public class UpdatePlanner
+{
+    private final SemanticVersionMigration migration = new SemanticVersionMigration();
+    private final Map<String, UpdateStrategy> policies = new HashMap<>();
+    // most specific (longest) pattern first
+    private final List<Glob> globs = new ArrayList<>();
+    private final UpdateStrategy defaultStrategy;
+
+    /**
+     * @param policies update strategy by artifact or glob of artifacts
+     * @param defaultStrategy update strategy of artifacts without policy
+     */
+    public UpdatePlanner(Map<String, UpdateStrategy> policies, UpdateStrategy defaultStrategy)
+    {
+        this.defaultStrategy = defaultStrategy;
+        policies.forEach((artifact, strategy) -> {
+            if (artifact.indexOf('*') >= 0 || artifact.indexOf('?') >= 0)
+            {
+                globs.add(new Glob(artifact, strategy));
+            }
+            else
+            {
+                this.policies.put(artifact, strategy);
+            }
+        });
+        globs.sort(Comparator.comparingInt((Glob g) -> -g.glob.length()).thenComparing(g -> g.glob));
+    }
+
+    /**
+     * @param artifact artifact
+     * @return update strategy of the artifact
+     */
+    public UpdateStrategy getStrategy(String artifact)
+    {
+        UpdateStrategy result = policies.get(artifact);
+        if (result != null)
+        {
+            return result;
+        }
+        for (Glob glob : globs)
+        {
+            if (glob.pattern.matcher(artifact).matches())
+            {
+                return glob.strategy;
+            }
+        }
+        return defaultStrategy;
+    }
+
+    /**
+     * Evaluates all dependencies in parallel.
+     *
+     * @param dependencies current version by artifact
+     * @param versions available versions of an artifact (e.g. the versions of a {@link VersionCatalog}), null if the
+     *            artifact is unknown
+     * @return update plan with an entry for each dependency
+     */
+    public UpdatePlan plan(Map<String, String> dependencies, Function<String, ? extends Collection<String>> versions)
+    {
+        long start = System.nanoTime();
+        List<UpdatePlan.Entry> entries = dependencies.entrySet()
+                                                     .parallelStream()
+                                                     .map(d -> evaluate(d.getKey(), d.getValue(), versions))
+                                                     .sorted(Comparator.comparing(UpdatePlan.Entry::getArtifact))
+                                                     .collect(Collectors.toList());
+        return new UpdatePlan(entries, System.nanoTime() - start);
+    }
+
+    private UpdatePlan.Entry evaluate(String artifact, String current,
+                    Function<String, ? extends Collection<String>> versions)
+    {
+        long start = System.nanoTime();
+        UpdateStrategy strategy = getStrategy(artifact);
+        String newVersion = null;
+        UpdatePlan.Reason reason;
+        String error = null;
+        try
+        {
+            if (strategy == UpdateStrategy.STICK)
+            {
+                reason = UpdatePlan.Reason.PINNED;
+            }
+            else
+            {
+                // the current version is resolved once, it's used for the migration and the reachability check
+                Optional<SemanticVersion> currentVersion = SemanticVersion.tryParse(current).getVersion();
+                Collection<String> candidates = currentVersion.isPresent() ? versions.apply(artifact) : null;
+                SemanticVersion newest = candidates == null ? null
+                                : migration.getMigration(strategy, migration.valueOfCandidates(candidates),
+                                                currentVersion.get()).orElse(null);
+                newVersion = newest == null ? null : newest.getVersion();
+                if (currentVersion.isEmpty())
+                {
+                    reason = UpdatePlan.Reason.INVALID_VERSION;
+                }
+                else if (candidates == null || candidates.isEmpty())
+                {
+                    reason = UpdatePlan.Reason.NO_VERSIONS;
+                }
+                else if (newest == null)
+                {
+                    reason = UpdatePlan.Reason.UP_TO_DATE;
+                }
+                else
+                {
+                    // e.g. DEV finds versions of other patch versions, but the step is limited to the patch version
+                    reason = migration.isMigrationStepPossible(currentVersion.get(), newest, strategy)
+                                    ? UpdatePlan.Reason.UPDATE : UpdatePlan.Reason.NOT_REACHABLE;
+                }
+            }
+        }
+        catch(RuntimeException e)
+        {
+            reason = UpdatePlan.Reason.FAILED;
+            error = String.valueOf(e.getMessage());
+        }
+        return new UpdatePlan.Entry(artifact, current, strategy, newVersion, reason, error,
+                        System.nanoTime() - start);
+    }
+
+    /**
+     * Artifact pattern with an update strategy
+     */
+    private static final class Glob
+    {
+        private final String glob;
+        private final Pattern pattern;
+        private final UpdateStrategy strategy;
+
+        private Glob(String glob, UpdateStrategy strategy)
+        {
+            this.glob = glob;
+            this.strategy = strategy;
+            StringBuilder regex = new StringBuilder();
+            int start = 0;
+            for (int i = 0; i < glob.length(); i++)
+            {
+                char c = glob.charAt(i);
+                if (c == '*' || c == '?')
+                {
+                    regex.append(Pattern.quote(glob.substring(start, i))).append(c == '*' ? ".*" : ".");
+                    start = i + 1;
+                }
+            }
+            this.pattern = Pattern.compile(regex.append(Pattern.quote(glob.substring(start))).toString());
+        }
+    }
+}
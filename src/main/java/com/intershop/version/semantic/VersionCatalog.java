@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted versions of an artifact, which are updated incrementally. Each version is resolved once, when it is added.
+ * Versions with the same semantic meaning (e.g. "1.0" and "1.0.0") are kept both. The catalog can be read while it's
+ * updated, but it must be updated by one thread at a time.
+ */
+public class VersionCatalog
+{
+    private static final SemanticVersionMigration MIGRATION = new SemanticVersionMigration();
+
+    private final ConcurrentSkipListMap<SortKey, String> sorted = new ConcurrentSkipListMap<>();
+    // sort key by version string, so removed versions are not resolved again
+    private final Map<String, SortKey> keys = new ConcurrentHashMap<>();
+
+    /**
+     * @param version version to add
+     * @return true if the version was not part of the catalog
+     */
+    public boolean add(String version)
+    {
+        if (keys.containsKey(version))
+        {
+            return false;
+        }
+        SortKey key = new SortKey(version);
+        keys.put(version, key);
+        sorted.put(key, version);
+        return true;
+    }
+
+    /**
+     * @param version version to remove
+     * @return true if the version was part of the catalog
+     */
+    public boolean remove(String version)
+    {
+        SortKey key = keys.remove(version);
+        if (key == null)
+        {
+            return false;
+        }
+        sorted.remove(key);
+        return true;
+    }
+
+    /**
+     * Replaces the versions of the catalog, only added and removed versions are changed.
+     *
+     * @param newVersions new versions of the catalog
+     * @return amount of added and removed versions
+     */
+    public int update(Collection<String> newVersions)
+    {
+        Set<String> target = new HashSet<>(newVersions);
+        int changes = 0;
+        for (String version : new ArrayList<>(keys.keySet()))
+        {
+            if (!target.contains(version) && remove(version))
+            {
+                changes++;
+            }
+        }
+        for (String version : target)
+        {
+            if (add(version))
+            {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @param version version
+     * @return true if the catalog contains the version string
+     */
+    public boolean contains(String version)
+    {
+        return keys.containsKey(version);
+    }
+
+    /**
+     * @return amount of versions
+     */
+    public int size()
+    {
+        return keys.size();
+    }
+
+    /**
+     * @return sorted versions (lowest first)
+     */
+    public List<String> getVersions()
+    {
+        return new ArrayList<>(sorted.values());
+    }
+
+    /**
+     * @return the newest version or Optional.empty() for an empty catalog
+     */
+    public Optional<String> getNewestVersion()
+    {
+        Map.Entry<SortKey, String> last = sorted.lastEntry();
+        return last == null ? Optional.empty() : Optional.of(last.getValue());
+    }
+
+    /**
+     * @param strategy update strategy
+     * @param current current version
+     * @return newest version reachable with the update strategy or the current version
+     */
+    public String getNewestVersion(UpdateStrategy strategy, String current)
+    {
+        List<SemanticVersion> versions = new ArrayList<>(sorted.size());
+        for (SortKey key : sorted.keySet())
+        {
+            versions.add(key.version);
+        }
+        return MIGRATION.getMigration(strategy, versions, SemanticVersion.valueOf(current))
+                        .map(SemanticVersion::getVersion).orElse(current);
+    }
+
+    @Override
+    public String toString()
+    {
+        return getVersions().toString();
+    }
+
+    /**
+     * Resolved version, which is ordered by the semantic meaning and the version string
+     */
+    private static final class SortKey implements Comparable<SortKey>
+    {
+        private final SemanticVersion version;
+
+        private SortKey(String version)
+        {
+            this.version = SemanticVersion.valueOf(version);
+        }
+
+        @Override
+        public int compareTo(SortKey key)
+        {
+            int result = version.compareTo(key.version);
+            return result != 0 ? result : version.getVersion().compareTo(key.version.getVersion());
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof SortKey && compareTo((SortKey)obj) == 0;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return version.getVersion().hashCode();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Intershop Communications AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.intershop.version.semantic;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link VersionCatalog}s of all maven-metadata.xml files below a root directory up to date. The files are
+ * read once, afterwards the {@link WatchService} reports changed files and only these files are read again. The
+ * differences are applied to the catalogs, so a refresh costs in proportion to the changes.
+ * <p>
+ * The artifact of a catalog is the directory of the metadata file relative to the root (e.g. "com/example/lib").
+ * Files, which can't be read (e.g. while they are written), keep the previous versions until the next change.
+ */
+public class VersionCatalogWatcher implements Closeable
+{
+    /**
+     * default name of the metadata files
+     */
+    public static final String METADATA_FILE = "maven-metadata.xml";
+
+    private final Path root;
+    private final String fileName;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    // watched directories relative to the root, so deleted files are not handled like deleted directories
+    private final NavigableSet<String> watched = new ConcurrentSkipListSet<>();
+    // sorted by artifact, so the catalogs of a deleted directory are one range
+    private final ConcurrentSkipListMap<String, VersionCatalog> catalogs = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param root root directory of the metadata files
+     * @throws IOException if the directories can't be read or watched
+     */
+    public VersionCatalogWatcher(Path root) throws IOException
+    {
+        this(root, METADATA_FILE);
+    }
+
+    /**
+     * @param root root directory of the metadata files
+     * @param fileName name of the metadata files
+     * @throws IOException if the directories can't be read or watched
+     */
+    public VersionCatalogWatcher(Path root, String fileName) throws IOException
+    {
+        this.root = root.toAbsolutePath().normalize();
+        this.fileName = fileName;
+        this.watchService = this.root.getFileSystem().newWatchService();
+        scan(this.root, new LinkedHashSet<>());
+    }
+
+    /**
+     * @param artifact artifact (directory relative to the root, separated with "/")
+     * @return catalog of the artifact or null
+     */
+    public VersionCatalog getCatalog(String artifact)
+    {
+        return catalogs.get(artifact);
+    }
+
+    /**
+     * @return all catalogs by artifact
+     */
+    public Map<String, VersionCatalog> getCatalogs()
+    {
+        return Collections.unmodifiableMap(catalogs);
+    }
+
+    /**
+     * Applies the changes of the files, which are already reported by the watch service
+     *
+     * @return changed artifacts
+     * @throws IOException if a new directory can't be watched
+     */
+    public Set<String> refresh() throws IOException
+    {
+        return refresh(watchService.poll());
+    }
+
+    /**
+     * Waits for the first change and applies all changes reported until then
+     *
+     * @param timeout maximum time to wait for the first change
+     * @param unit unit of the timeout
+     * @return changed artifacts (empty if there was no change)
+     * @throws IOException if a new directory can't be watched
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Set<String> refresh(long timeout, TimeUnit unit) throws IOException, InterruptedException
+    {
+        return refresh(watchService.poll(timeout, unit));
+    }
+
+    private Set<String> refresh(WatchKey first) throws IOException
+    {
+        Set<Path> changedFiles = new LinkedHashSet<>();
+        Set<String> result = new LinkedHashSet<>();
+        try
+        {
+            for (WatchKey key = first; key != null; key = watchService.poll())
+            {
+                collectChanges(key, changedFiles, result);
+            }
+        }
+        catch(ClosedWatchServiceException e)
+        {
+            return result;
+        }
+        // each changed file is read once, also if multiple events are reported
+        for (Path file : changedFiles)
+        {
+            String artifact = getArtifact(file);
+            if (Files.isRegularFile(file))
+            {
+                if (read(artifact, file))
+                {
+                    result.add(artifact);
+                }
+            }
+            else if (catalogs.remove(artifact) != null)
+            {
+                result.add(artifact);
+            }
+        }
+        return result;
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changedFiles, Set<String> changedArtifacts)
+                    throws IOException
+    {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents())
+        {
+            if (event.kind() == OVERFLOW)
+            {
+                // events are lost, so all files of the directory are read again
+                if (directory != null)
+                {
+                    scan(directory, changedArtifacts);
+                }
+                continue;
+            }
+            if (directory == null)
+            {
+                continue;
+            }
+            Path path = directory.resolve((Path)event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path))
+            {
+                scan(path, changedArtifacts);
+            }
+            else if (path.getFileName().toString().equals(fileName))
+            {
+                changedFiles.add(path);
+            }
+            else if (event.kind() == ENTRY_DELETE && watched.contains(getArtifact(path.resolve(fileName))))
+            {
+                removeDirectory(path, changedArtifacts);
+            }
+        }
+        if (!key.reset())
+        {
+            directories.remove(key);
+        }
+    }
+
+    /**
+     * Watches the directory and all sub directories and reads all metadata files
+     */
+    private void scan(Path directory, Set<String> changedArtifacts) throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(directory))
+        {
+            for (Path path : paths.collect(Collectors.toList()))
+            {
+                if (Files.isDirectory(path))
+                {
+                    directories.put(path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+                    watched.add(getArtifact(path.resolve(fileName)));
+                }
+                else if (path.getFileName().toString().equals(fileName))
+                {
+                    String artifact = getArtifact(path);
+                    if (read(artifact, path))
+                    {
+                        changedArtifacts.add(artifact);
+                    }
+                }
+            }
+        }
+        catch(UncheckedIOException e)
+        {
+            // e.g. a directory is deleted while it's scanned
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Removes the catalogs of a deleted directory and its sub directories
+     */
+    private void removeDirectory(Path directory, Set<String> changedArtifacts)
+    {
+        String prefix = getArtifact(directory.resolve(fileName));
+        if (prefix.isEmpty())
+        {
+            // the root is deleted
+            changedArtifacts.addAll(catalogs.keySet());
+            catalogs.clear();
+            watched.clear();
+            return;
+        }
+        // "0" follows "/", so the range contains all sub directories of the prefix
+        String from = prefix + "/";
+        String to = prefix + "0";
+        if (catalogs.remove(prefix) != null)
+        {
+            changedArtifacts.add(prefix);
+        }
+        Map<String, VersionCatalog> removed = catalogs.subMap(from, to);
+        changedArtifacts.addAll(removed.keySet());
+        removed.clear();
+        watched.remove(prefix);
+        watched.subSet(from, to).clear();
+    }
+
+    /**
+     * @return true if the versions of the artifact are changed
+     */
+    private boolean read(String artifact, Path file)
+    {
+        Set<String> versions;
+        try
+        {
+            versions = MavenMetadataReader.read(file);
+        }
+        catch(IOException e)
+        {
+            if (VersionMetrics.ENABLED)
+            {
+                VersionMetrics.METRICS.errorPath("catalog");
+            }
+            return false;
+        }
+        VersionCatalog catalog = catalogs.get(artifact);
+        if (catalog == null)
+        {
+            catalog = new VersionCatalog();
+            catalog.update(versions);
+            catalogs.put(artifact, catalog);
+            return true;
+        }
+        return catalog.update(versions) > 0;
+    }
+
+    private String getArtifact(Path file)
+    {
+        Path directory = root.relativize(file.getParent());
+        return directory.toString().replace(directory.getFileSystem().getSeparator(), "/");
+    }
+
+    /**
+     * Stops watching the files, the catalogs are not updated anymore
+     */
+    @Override
+    public void close() throws IOException
+    {
+        watchService.close();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "VersionCatalogWatcher [root=" + root + ", catalogs=" + catalogs.size() + "]";
+    }
+}
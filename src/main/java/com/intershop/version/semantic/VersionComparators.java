@@ -126,16 +126,16 @@ class VersionComparators
         return 0;
     };
     private static final Comparator<VersionExtensionItem> EXTENSION_STRING_COMPARATER = (a, b) -> {
-        return a.getExtension().compareTo(b.getExtension());
+        return ExtensionDictionary.compare(a.getCode(), a.getExtension(), b.getCode(), b.getExtension());
     };
     // one extension can contain string others a number: "2.0.1-xyz" < "2.0.1-123";
     private static final Comparator<VersionExtensionItem> EXTENSION_STRING_OR_NUMBER_COMPARATER = (a, b) -> {
-        if (a.getExtension().isEmpty() && b.getExtension().isEmpty()
-                        || !a.getExtension().isEmpty() && !b.getExtension().isEmpty())
+        boolean aIsEmpty = a.getCode() == ExtensionDictionary.EMPTY;
+        if (aIsEmpty == (b.getCode() == ExtensionDictionary.EMPTY))
         {
             return 0;
         }
-        return a.getExtension().isEmpty() ? 1 : -1;
+        return aIsEmpty ? 1 : -1;
     };
     @SuppressWarnings("unchecked")
     public static final Comparator<VersionExtensionItem> EXTENSION_COMPARATOR = ComparatorUtils.chainedComparator(
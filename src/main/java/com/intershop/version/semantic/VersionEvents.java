@@ -0,0 +1,142 @@
+package com.intershop.version.semantic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events of the library. The events are enabled, disabled and filtered with the standard JFR
+ * settings (e.g. <code>com.intershop.version.semantic.Parse#threshold=1 ms</code>). Disabled events are not
+ * allocated by the JIT.
+ */
+class VersionEvents
+{
+    private static final String CATEGORY = "Semantic Version";
+
+    private VersionEvents()
+    {
+    }
+
+    @Name("com.intershop.version.semantic.Parse")
+    @Label("Version Parse")
+    @Description("Slow resolution of a version string")
+    @Category(CATEGORY)
+    @Threshold("1 ms")
+    static class Parse extends Event
+    {
+        @Label("Version")
+        String version;
+
+        /**
+         * @param version resolved version string
+         */
+        void commit(String version)
+        {
+            end();
+            if (shouldCommit())
+            {
+                this.version = version;
+                commit();
+            }
+        }
+    }
+
+    @Name("com.intershop.version.semantic.Migration")
+    @Label("Version Migration")
+    @Description("Search of the newest version for an update strategy")
+    @Category(CATEGORY)
+    static class Migration extends Event
+    {
+        @Label("Strategy")
+        String strategy;
+
+        @Label("Candidates")
+        int candidates;
+
+        @Label("Accepted Candidates")
+        int accepted;
+
+        @Label("Found")
+        boolean found;
+
+        /**
+         * @param strategy update strategy
+         * @param candidates amount of candidates
+         * @param accepted amount of candidates matching the strategy
+         * @param found true if a newer version was found
+         */
+        void commit(UpdateStrategy strategy, int candidates, int accepted, boolean found)
+        {
+            end();
+            if (shouldCommit())
+            {
+                this.strategy = strategy.name();
+                this.candidates = candidates;
+                this.accepted = accepted;
+                this.found = found;
+                commit();
+            }
+        }
+    }
+
+    @Name("com.intershop.version.semantic.Sort")
+    @Label("Version Sort")
+    @Description("Sort of a list of versions")
+    @Category(CATEGORY)
+    static class Sort extends Event
+    {
+        @Label("Size")
+        int size;
+
+        @Label("Parallel")
+        boolean parallel;
+
+        /**
+         * @param size amount of sorted versions
+         * @param parallel true if the versions were sorted in parallel
+         */
+        void commit(int size, boolean parallel)
+        {
+            end();
+            if (shouldCommit())
+            {
+                this.size = size;
+                this.parallel = parallel;
+                commit();
+            }
+        }
+    }
+
+    @Name("com.intershop.version.semantic.CacheEviction")
+    @Label("Version Cache Eviction")
+    @Description("Removal of collected entries from a cache")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static class CacheEviction extends Event
+    {
+        @Label("Cache")
+        String cache;
+
+        @Label("Evicted Entries")
+        int evicted;
+
+        /**
+         * @param cache name of the cache
+         * @param evicted amount of removed entries
+         */
+        void commit(String cache, int evicted)
+        {
+            end();
+            if (shouldCommit())
+            {
+                this.cache = cache;
+                this.evicted = evicted;
+                commit();
+            }
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.intershop.version.semantic;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 class VersionExtensionItem
 {
@@ -13,19 +12,36 @@ class VersionExtensionItem
     }
 
     private final ExtensionType extensionType;
-    private final String extension;
+    // code of the extension word, see ExtensionDictionary
+    private final short code;
+    // only set if the dictionary has no code for the word
+    private final String unknownExtension;
     private final List<VersionNumberItems.Item> numbers;
 
     private VersionExtensionItem(ExtensionType type, String extension, List<VersionNumberItems.Item> numbers)
+    {
+        this(type, ExtensionDictionary.getCode(extension), extension, numbers);
+    }
+
+    private VersionExtensionItem(ExtensionType type, short code, String extension, List<VersionNumberItems.Item> numbers)
     {
         this.extensionType = type;
-        this.extension = extension;
+        this.code = code;
+        this.unknownExtension = code == ExtensionDictionary.UNKNOWN ? extension : null;
         this.numbers = numbers;
     }
 
     public String getExtension()
     {
-        return extension;
+        return ExtensionDictionary.getWord(code, unknownExtension);
+    }
+
+    /**
+     * @return code of the extension word
+     */
+    short getCode()
+    {
+        return code;
     }
 
     List<VersionNumberItems.Item> getNumbers()
@@ -40,7 +56,7 @@ class VersionExtensionItem
 
     public VersionExtensionItem setExtensionType(ExtensionType type)
     {
-        return new VersionExtensionItem(type, extension, numbers);
+        return new VersionExtensionItem(type, code, unknownExtension, numbers);
     }
 
     public VersionExtensionItem setExtension(String extension)
@@ -52,13 +68,33 @@ class VersionExtensionItem
     {
         List<VersionNumberItems.Item> result = new ArrayList<>(numbers);
         result.add(VersionNumberItems.parseItem(number));
-        return new VersionExtensionItem(extensionType, extension, Collections.unmodifiableList(result));
+        return new VersionExtensionItem(extensionType, code, unknownExtension, Collections.unmodifiableList(result));
     }
 
     @Override
     public String toString()
     {
-        return extension + String.join(".", numbers.stream().map(VersionNumberItems.Item::toString).collect(Collectors.toList()));
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the same text as {@link #toString()}
+     *
+     * @param target buffer
+     * @return the given buffer
+     */
+    StringBuilder appendTo(StringBuilder target)
+    {
+        target.append(getExtension());
+        for (int i = 0; i < numbers.size(); i++)
+        {
+            if (i > 0)
+            {
+                target.append('.');
+            }
+            numbers.get(i).appendTo(target);
+        }
+        return target;
     }
 
     /**
@@ -67,7 +103,15 @@ class VersionExtensionItem
      */
     public boolean isEmpty()
     {
-        return numbers.isEmpty() && extension.isEmpty();
+        return numbers.isEmpty() && code == ExtensionDictionary.EMPTY;
+    }
+
+    /**
+     * @return true if all numbers are zero (or no numbers exist)
+     */
+    public boolean isNullNumber()
+    {
+        return numbers.stream().allMatch(VersionNumberItems.Item::isNull);
     }
 
     public VersionExtensionItem incrementNumber()
@@ -82,6 +126,6 @@ class VersionExtensionItem
             int lastPos = result.size() - 1;
             result.set(lastPos, result.get(lastPos).increment());
         }
-        return new VersionExtensionItem(extensionType, extension, result);
+        return new VersionExtensionItem(extensionType, code, unknownExtension, result);
     }
 }
@@ -0,0 +1,75 @@
+package com.intershop.version.semantic;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes versions to an {@link Appendable} with a per thread buffer, so no intermediate strings are created.
+ */
+class VersionFormatter
+{
+    // larger buffers are not kept after an unusual long version
+    private static final int MAX_KEPT_CAPACITY = 1024;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private VersionFormatter()
+    {
+    }
+
+    /**
+     * @param version version
+     * @param target buffer or writer
+     * @throws IOException if the target can't be written
+     */
+    static void formatTo(SemanticVersion version, Appendable target) throws IOException
+    {
+        if (target instanceof StringBuilder)
+        {
+            version.appendTo((StringBuilder)target);
+            return;
+        }
+        Scratch scratch = SCRATCH.get();
+        StringBuilder buffer = scratch.buffer;
+        try
+        {
+            version.appendTo(buffer);
+            int length = buffer.length();
+            if (target instanceof Writer)
+            {
+                // appending a CharSequence to a Writer creates a string
+                if (scratch.chars.length < length)
+                {
+                    scratch.chars = new char[Math.max(length, scratch.chars.length * 2)];
+                }
+                buffer.getChars(0, length, scratch.chars, 0);
+                ((Writer)target).write(scratch.chars, 0, length);
+            }
+            else
+            {
+                target.append(buffer, 0, length);
+            }
+        }
+        finally
+        {
+            if (buffer.capacity() > MAX_KEPT_CAPACITY || scratch.chars.length > MAX_KEPT_CAPACITY)
+            {
+                SCRATCH.remove();
+            }
+            else
+            {
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * Per thread buffers of {@link #formatTo(SemanticVersion, Appendable)}
+     */
+    private static final class Scratch
+    {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+        private char[] chars = new char[INITIAL_CAPACITY];
+    }
+}
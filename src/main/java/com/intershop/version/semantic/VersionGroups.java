@@ -0,0 +1,95 @@
+package com.intershop.version.semantic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups version strings with the same semantic meaning (e.g. "1.0", "1.0.0" and "1-ga"). Versions are scanned with
+ * the {@link VersionKeyScanner} and grouped by the sort key and the rank. Only versions with the same key, which can't
+ * be distinguished by the rank, are resolved and compared with {@link SemanticVersion#equals(Object)}.
+ */
+class VersionGroups
+{
+    private final VersionKeyScanner scanner = new VersionKeyScanner();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private final List<List<String>> groups = new ArrayList<>();
+
+    /**
+     * @param version version string
+     */
+    void add(String version)
+    {
+        ScannedVersion scanned = ScannedVersion.of(version, scanner);
+        buckets.computeIfAbsent(scanned.getKey(), k -> new Bucket()).add(scanned);
+    }
+
+    /**
+     * @return groups of versions with the same semantic meaning in the order of the added versions
+     */
+    List<List<String>> getGroups()
+    {
+        return groups;
+    }
+
+    /**
+     * All groups with the same sort key
+     */
+    private final class Bucket
+    {
+        private final Map<Long, Group> byRank = new HashMap<>();
+        private final List<Group> all = new ArrayList<>();
+        // created if the bucket contains a version, which must be compared by equals
+        private Map<SemanticVersion, Group> byVersion;
+
+        private void add(ScannedVersion version)
+        {
+            boolean ranked = version.isRanked();
+            Group group = ranked ? byRank.get(version.getRank()) : null;
+            if (group == null && (byVersion != null || !ranked))
+            {
+                group = getByVersion().get(version.getVersion());
+            }
+            if (group == null)
+            {
+                group = new Group(version);
+                all.add(group);
+                groups.add(group.members);
+                if (byVersion != null)
+                {
+                    byVersion.put(version.getVersion(), group);
+                }
+            }
+            if (ranked)
+            {
+                byRank.putIfAbsent(version.getRank(), group);
+            }
+            group.members.add(version.getString());
+        }
+
+        private Map<SemanticVersion, Group> getByVersion()
+        {
+            if (byVersion == null)
+            {
+                byVersion = new HashMap<>();
+                for (Group group : all)
+                {
+                    byVersion.putIfAbsent(group.first.getVersion(), group);
+                }
+            }
+            return byVersion;
+        }
+    }
+
+    private static final class Group
+    {
+        private final ScannedVersion first;
+        private final List<String> members = new ArrayList<>();
+
+        private Group(ScannedVersion first)
+        {
+            this.first = first;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.intershop.version.semantic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 class VersionItem
@@ -12,6 +14,15 @@ class VersionItem
         return new VersionItem(Collections.emptyList(), Collections.emptyList());
     }
 
+    /**
+     * @param numbers version numbers
+     * @return version item with the given numbers and without extensions
+     */
+    public static VersionItem ofNumbers(Integer... numbers)
+    {
+        return new VersionItem(Collections.unmodifiableList(Arrays.asList(numbers)), Collections.emptyList());
+    }
+
     private final List<Integer> numbers;
     private final List<VersionExtensionItem> extensions;
 
@@ -21,6 +32,55 @@ class VersionItem
         this.extensions = extensions;
     }
 
+    /**
+     * Returns a key, which is equal for all versions with the same semantic meaning (e.g. "1.0", "1.0.0", "1-ga" and
+     * "1.0-final"). Trailing zeros, GA aliases and extensions without relevance for sorting (e.g. platform extensions)
+     * are not part of the key.
+     *
+     * @return canonical identity key
+     */
+    public String getIdentityKey()
+    {
+        StringBuilder result = new StringBuilder();
+        int lastNumber = numbers.size() - 1;
+        while(lastNumber >= 0 && numbers.get(lastNumber) == 0)
+        {
+            lastNumber--;
+        }
+        for (int i = 0; i <= lastNumber; i++)
+        {
+            result.append(i == 0 ? "" : ".").append(numbers.get(i));
+        }
+        result.append('|').append(getReleaseType().name());
+        List<VersionExtensionItem> relevant = extensions.stream()
+                                                        .filter(e -> e.getExtensionType().isAreNumbersRelevantForSorting())
+                                                        .collect(Collectors.toList());
+        // 1.0-ga-0 == 1.0
+        int lastExtension = relevant.size() - 1;
+        while(lastExtension >= 0 && ExtensionType.GA.equals(relevant.get(lastExtension).getExtensionType())
+                        && relevant.get(lastExtension).isNullNumber())
+        {
+            lastExtension--;
+        }
+        for (int i = 0; i <= lastExtension; i++)
+        {
+            VersionExtensionItem extension = relevant.get(i);
+            result.append('|').append(extension.getExtensionType().name()).append(':').append(extension.getExtension())
+                  .append(':');
+            List<VersionNumberItems.Item> extensionNumbers = extension.getNumbers();
+            int lastExtensionNumber = extensionNumbers.size() - 1;
+            while(lastExtensionNumber >= 0 && extensionNumbers.get(lastExtensionNumber).isNull())
+            {
+                lastExtensionNumber--;
+            }
+            for (int j = 0; j <= lastExtensionNumber; j++)
+            {
+                result.append(j == 0 ? "" : ".").append(extensionNumbers.get(j));
+            }
+        }
+        return result.toString();
+    }
+
     public ExtensionType getReleaseType()
     {
         // find first non neutral or it's a GA
@@ -70,7 +130,30 @@ class VersionItem
     @Override
     public String toString()
     {
-        return getNumbersAsString() + (hasExtensions() ? "-" + getExtension() : "");
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the same text as {@link #toString()}
+     *
+     * @param target buffer
+     * @return the given buffer
+     */
+    public StringBuilder appendTo(StringBuilder target)
+    {
+        for (int i = 0; i < numbers.size(); i++)
+        {
+            if (i > 0)
+            {
+                target.append('.');
+            }
+            target.append(numbers.get(i).intValue());
+        }
+        if (hasExtensions())
+        {
+            appendExtensionTo(target.append('-'));
+        }
+        return target;
     }
 
     public boolean isEmpty()
@@ -83,14 +166,32 @@ class VersionItem
         return !extensions.isEmpty();
     }
 
-    private String getNumbersAsString()
+    public String getExtension()
     {
-        return String.join(".", numbers.stream().map(n -> n.toString()).collect(Collectors.toList()));
+        if (extensions.isEmpty())
+        {
+            return "";
+        }
+        return appendExtensionTo(new StringBuilder()).toString();
     }
 
-    public String getExtension()
+    /**
+     * Appends the same text as {@link #getExtension()}
+     *
+     * @param target buffer
+     * @return the given buffer
+     */
+    public StringBuilder appendExtensionTo(StringBuilder target)
     {
-        return String.join("-", extensions.stream().map(VersionExtensionItem::toString).collect(Collectors.toList()));
+        for (int i = 0; i < extensions.size(); i++)
+        {
+            if (i > 0)
+            {
+                target.append('-');
+            }
+            extensions.get(i).appendTo(target);
+        }
+        return target;
     }
 
     public VersionItem setReleaseType(ExtensionType releaseType)
@@ -117,6 +218,20 @@ class VersionItem
         return new VersionItem(numbers, Collections.unmodifiableList(newExtensions));
     }
 
+    /**
+     * @param mapper replaces each extension (e.g. with a shared instance)
+     * @return version item with replaced extensions
+     */
+    public VersionItem mapExtensions(UnaryOperator<VersionExtensionItem> mapper)
+    {
+        List<VersionExtensionItem> result = new ArrayList<>(extensions.size());
+        for (VersionExtensionItem extension : extensions)
+        {
+            result.add(mapper.apply(extension));
+        }
+        return new VersionItem(numbers, Collections.unmodifiableList(result));
+    }
+
     public VersionItem addExtensions(List<VersionExtensionItem> newExtensions)
     {
         List<VersionExtensionItem> result = new ArrayList<>(extensions);
@@ -0,0 +1,249 @@
+package com.intershop.version.semantic;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Scans a version string and provides the {@link VersionSortKey sort key}, the rank, the release type and the major,
+ * minor and patch version without creating a {@link VersionItem} (key only parse mode). The scanner is reusable, but
+ * not thread safe.
+ * <p>
+ * The scanner is conservative: it only accepts versions, which are resolved the same way by the full resolver, that
+ * are numbers (up to 4 digits each) optionally followed by a dash and one extension word with an optional number (e.g.
+ * "1.2.3", "1.2-rc1", "1.2.3-RC.1" or "1.0-SNAPSHOT"). All other strings (e.g. "1.2rc1", "9.4.0.v20161208" or
+ * "1.0-final") must be resolved completely. Timestamped snapshots (e.g. "1.2.0-20240101.120102-17") are scanned, too.
+ */
+class VersionKeyScanner
+{
+    private static final int MAX_NUMBERS = 8;
+    // numbers with more digits are handled as build numbers or dates by the resolver
+    private static final int MAX_NUMBER_DIGITS = 4;
+    // extension numbers are int items up to 9 digits
+    private static final int MAX_EXTENSION_DIGITS = 9;
+
+    private static final String[] WORDS;
+    private static final ExtensionType[] WORD_TYPES;
+    private static final short[] WORD_CODES;
+    static
+    {
+        // only words with a type, which keeps the extension relevant (GA, build and platform aliases are resolved
+        // differently)
+        String[] words = SemanticVersionResolverImpl.getExtensionAliases()
+                                                    .stream()
+                                                    .filter(w -> isSupported(SemanticVersionResolverImpl.getReleaseType(w)))
+                                                    .toArray(String[]::new);
+        WORDS = words;
+        WORD_TYPES = new ExtensionType[words.length];
+        WORD_CODES = new short[words.length];
+        for (int i = 0; i < words.length; i++)
+        {
+            WORD_TYPES[i] = SemanticVersionResolverImpl.getReleaseType(words[i]);
+            WORD_CODES[i] = ExtensionDictionary.getCode(SemanticVersionResolverImpl.getReleaseExtension(words[i]));
+        }
+    }
+
+    private final int[] numbers = new int[MAX_NUMBERS];
+    private final IntUnaryOperator numberAccess = i -> numbers[i];
+    private int count;
+    private ExtensionType releaseType;
+    private long key;
+    private long rank;
+
+    /**
+     * @param version version string
+     * @return true if the version was scanned, false if the version must be resolved completely
+     */
+    boolean scan(CharSequence version)
+    {
+        int length = version.length();
+        int pos = 0;
+        count = 0;
+        while(true)
+        {
+            if (count == MAX_NUMBERS)
+            {
+                return false;
+            }
+            int start = pos;
+            int value = 0;
+            while(pos < length && pos - start < MAX_NUMBER_DIGITS && isDigit(version.charAt(pos)))
+            {
+                value = value * 10 + version.charAt(pos++) - '0';
+            }
+            if (pos == start || pos < length && isDigit(version.charAt(pos)))
+            {
+                return false;
+            }
+            numbers[count++] = value;
+            if (pos == length)
+            {
+                releaseType = ExtensionType.GA;
+                key = VersionSortKey.of(count, numberAccess, releaseType);
+                rank = VersionSortKey.RANK_WITHOUT_EXTENSION;
+                return true;
+            }
+            char separator = version.charAt(pos++);
+            if (separator == '-')
+            {
+                return TimestampedSnapshot.find(version) == pos - 1 ? scanSnapshot(version, pos - 1)
+                                : scanExtension(version, pos);
+            }
+            if (separator != '.')
+            {
+                return false;
+            }
+        }
+    }
+
+    private boolean scanExtension(CharSequence version, int start)
+    {
+        int length = version.length();
+        int pos = start;
+        while(pos < length && isLetter(version.charAt(pos)))
+        {
+            pos++;
+        }
+        int word = findWord(version, start, pos);
+        if (word < 0)
+        {
+            return false;
+        }
+        if (pos < length && (version.charAt(pos) == '.' || version.charAt(pos) == '-'))
+        {
+            // rc.1 and rc-1 are the same as rc1
+            pos++;
+            if (pos == length)
+            {
+                return false;
+            }
+        }
+        int numberStart = pos;
+        int number = 0;
+        while(pos < length && pos - numberStart < MAX_EXTENSION_DIGITS && isDigit(version.charAt(pos)))
+        {
+            number = number * 10 + version.charAt(pos++) - '0';
+        }
+        if (pos < length)
+        {
+            return false;
+        }
+        releaseType = WORD_TYPES[word];
+        key = VersionSortKey.of(count, numberAccess, releaseType);
+        rank = VersionSortKey.rank(releaseType, WORD_CODES[word], number);
+        return true;
+    }
+
+    private boolean scanSnapshot(CharSequence version, int dash)
+    {
+        if (TimestampedSnapshot.getBuildEnd(version, dash) < version.length())
+        {
+            // the comparator decides about the extensions of the suffix (e.g. "-jre8")
+            return false;
+        }
+        int time = dash + 10;
+        boolean nullNumbers = TimestampedSnapshot.getBuildNumber(version, dash) == 0;
+        for (int i = time; nullNumbers && i < time + 6; i++)
+        {
+            nullNumbers = version.charAt(i) == '0';
+        }
+        releaseType = ExtensionType.DEV;
+        key = VersionSortKey.of(count, numberAccess, releaseType);
+        // like the dev extension "20240101" if the time and the build number are zero, otherwise the comparator decides
+        rank = nullNumbers ? VersionSortKey.rank(releaseType, ExtensionDictionary.EMPTY, parseDate(version, dash + 1))
+                        : VersionSortKey.UNRANKED;
+        return true;
+    }
+
+    private static int parseDate(CharSequence version, int start)
+    {
+        int result = 0;
+        for (int i = start; i < start + 8; i++)
+        {
+            result = result * 10 + version.charAt(i) - '0';
+        }
+        return result;
+    }
+
+    /**
+     * @return index of the word or -1 if the word is not known
+     */
+    private static int findWord(CharSequence version, int start, int end)
+    {
+        int length = end - start;
+        for (int i = 0; i < WORDS.length; i++)
+        {
+            String word = WORDS[i];
+            if (word.length() == length && regionMatches(version, start, word))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence version, int start, String lowerCaseWord)
+    {
+        for (int i = 0; i < lowerCaseWord.length(); i++)
+        {
+            if ((version.charAt(start + i) | 0x20) != lowerCaseWord.charAt(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupported(ExtensionType type)
+    {
+        return type.isAreNumbersRelevantForSorting() && !ExtensionType.GA.equals(type)
+                        && !ExtensionType.BUILD.equals(type);
+    }
+
+    private static boolean isDigit(char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c)
+    {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * @return sort key of the last scanned version
+     */
+    long getKey()
+    {
+        return key;
+    }
+
+    /**
+     * @return rank of the last scanned version (see {@link VersionSortKey#rank(SemanticVersionImpl)})
+     */
+    long getRank()
+    {
+        return rank;
+    }
+
+    /**
+     * @return release type of the last scanned version
+     */
+    ExtensionType getReleaseType()
+    {
+        return releaseType;
+    }
+
+    int getMajor()
+    {
+        return count > 0 ? numbers[0] : 0;
+    }
+
+    int getMinor()
+    {
+        return count > 1 ? numbers[1] : 0;
+    }
+
+    int getPatch()
+    {
+        return count > 2 ? numbers[2] : 0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.intershop.version.semantic;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.BinaryOperator;
+
+/**
+ * Merges multiple sorted (lowest first) iterators of versions into one sorted iterator (k-way merge). Versions, which
+ * are equal for the comparator (e.g. "1.0" and "1.0.0") are returned only once, the duplicate resolver decides which
+ * version is kept.
+ */
+class VersionMergeIterator implements Iterator<SemanticVersion>
+{
+    private final Comparator<SemanticVersion> comparator;
+    private final BinaryOperator<SemanticVersion> duplicateResolver;
+    private final PriorityQueue<Head> heads;
+
+    /**
+     * @param sources sorted sources
+     * @param comparator comparator used to sort the sources
+     * @param duplicateResolver returns the kept version of two equal versions (first parameter is the version of the
+     *            first source)
+     */
+    VersionMergeIterator(List<? extends Iterator<? extends SemanticVersion>> sources,
+                    Comparator<SemanticVersion> comparator, BinaryOperator<SemanticVersion> duplicateResolver)
+    {
+        this.comparator = comparator;
+        this.duplicateResolver = duplicateResolver;
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+            int result = comparator.compare(a.version, b.version);
+            return result != 0 ? result : Integer.compare(a.source, b.source);
+        });
+        for (int i = 0; i < sources.size(); i++)
+        {
+            Iterator<? extends SemanticVersion> source = sources.get(i);
+            if (source.hasNext())
+            {
+                heads.add(new Head(i, source, source.next()));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public SemanticVersion next()
+    {
+        if (heads.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        SemanticVersion result = advance(heads.poll());
+        while(!heads.isEmpty() && comparator.compare(result, heads.peek().version) == 0)
+        {
+            result = duplicateResolver.apply(result, advance(heads.poll()));
+        }
+        return result;
+    }
+
+    /**
+     * @param head current head of a source
+     * @return version of the head, the next version of the source is added to the queue
+     */
+    private SemanticVersion advance(Head head)
+    {
+        SemanticVersion result = head.version;
+        if (head.iterator.hasNext())
+        {
+            SemanticVersion next = head.iterator.next();
+            if (comparator.compare(result, next) > 0)
+            {
+                throw new IllegalStateException("Source " + head.source + " is not sorted: " + result.getVersion()
+                                + " is followed by " + next.getVersion());
+            }
+            heads.add(new Head(head.source, head.iterator, next));
+        }
+        return result;
+    }
+
+    private static final class Head
+    {
+        private final int source;
+        private final Iterator<? extends SemanticVersion> iterator;
+        private final SemanticVersion version;
+
+        private Head(int source, Iterator<? extends SemanticVersion> iterator, SemanticVersion version)
+        {
+            this.source = source;
+            this.iterator = iterator;
+            this.version = version;
+        }
+    }
+}
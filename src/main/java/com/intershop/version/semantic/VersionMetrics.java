@@ -0,0 +1,49 @@
+package com.intershop.version.semantic;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the {@link SemanticVersionMetrics} found by the {@link ServiceLoader}. All measurements are guarded with
+ * {@link #ENABLED}, which is a constant for the JIT, so no measurement code remains without an implementation.
+ */
+class VersionMetrics
+{
+    static final SemanticVersionMetrics METRICS = load();
+    static final boolean ENABLED = METRICS != null;
+
+    private VersionMetrics()
+    {
+    }
+
+    private static SemanticVersionMetrics load()
+    {
+        try
+        {
+            Iterator<SemanticVersionMetrics> found = ServiceLoader.load(SemanticVersionMetrics.class,
+                            SemanticVersionMetrics.class.getClassLoader()).iterator();
+            return found.hasNext() ? found.next() : null;
+        }
+        catch(ServiceConfigurationError e)
+        {
+            // metrics must not break the library
+            return null;
+        }
+    }
+
+    /**
+     * @param comparator comparator
+     * @param comparisons counter for each comparison
+     * @return comparator, which counts the comparisons
+     */
+    static <T> Comparator<T> counting(Comparator<T> comparator, LongAdder comparisons)
+    {
+        return (a, b) -> {
+            comparisons.increment();
+            return comparator.compare(a, b);
+        };
+    }
+}
@@ -18,17 +18,21 @@
  */
 package com.intershop.version.semantic;
 
-import java.math.BigInteger;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-
 class VersionNumberItems
 {
     private static final int MAX_INTITEM_LENGTH = 9;
     private static final int MAX_LONGITEM_LENGTH = 18;
-    // cache for the numbers 0-99
-    private static final Map<String, IntItem> ITEM_CACHE = new ConcurrentHashMap<>();
+    private static final int MAX_INTITEM_VALUE = 999_999_999;
+    private static final long MAX_LONGITEM_VALUE = 999_999_999_999_999_999L;
+    // constant pool for the numbers 0-1023
+    private static final IntItem[] ITEM_CACHE = new IntItem[1024];
+    static
+    {
+        for (int i = 0; i < ITEM_CACHE.length; i++)
+        {
+            ITEM_CACHE[i] = new IntItem(i);
+        }
+    }
 
     public static Item parseItem(String buf)
     {
@@ -40,16 +44,45 @@ class VersionNumberItems
         if (buf.length() <= MAX_INTITEM_LENGTH)
         {
             // lower than 2^31
-            return IntItem.valueOf(buf);
+            return valueOf(Integer.parseInt(buf));
         }
         else if (buf.length() <= MAX_LONGITEM_LENGTH)
         {
             // lower than 2^63
-            return LongItem.valueOf(buf);
+            return new LongItem(Long.parseLong(buf));
+        }
+        return new DigitsItem(buf);
+    }
+
+    /**
+     * @param value non negative number
+     * @return item for the number
+     */
+    static Item valueOf(int value)
+    {
+        if (value < 0)
+        {
+            throw new IllegalArgumentException("invalid negative version number: " + value);
+        }
+        if (value < ITEM_CACHE.length)
+        {
+            return ITEM_CACHE[value];
         }
-        return BigIntegerItem.valueOf(buf);
+        return value <= MAX_INTITEM_VALUE ? new IntItem(value) : new LongItem(value);
     }
 
+    /**
+     * @param item number item
+     * @return value of the item or -1 if the value doesn't fit into an int
+     */
+    static int intValue(Item item)
+    {
+        return ItemType.INT.equals(item.getType()) ? ((IntItem)item).value : -1;
+    }
+
+    /**
+     * @return number without leading zeros ("0" for zeros only)
+     */
     private static String stripLeadingZeroes(String buf)
     {
         for (int i = 0; i < buf.length(); ++i)
@@ -57,15 +90,19 @@ class VersionNumberItems
             char c = buf.charAt(i);
             if (c != '0')
             {
-                return buf.substring(i);
+                return i == 0 ? buf : buf.substring(i);
             }
         }
-        return buf;
+        return "0";
     }
 
+    /**
+     * Items are normalized: the type depends on the amount of digits, so items of different types are never equal
+     * and the order of the types is the order of the numbers.
+     */
     enum ItemType
     {
-        INT, LONG, BIGINTEGER
+        INT, LONG, DIGITS
     };
 
     public interface Item
@@ -90,6 +127,13 @@ class VersionNumberItems
          * @return item which represents item++
          */
         Item increment();
+
+        /**
+         * Appends the same text as {@link Object#toString()}
+         *
+         * @param target buffer
+         */
+        void appendTo(StringBuilder target);
     }
 
     /**
@@ -97,15 +141,6 @@ class VersionNumberItems
      */
     private static class IntItem implements Item
     {
-        static IntItem valueOf(String str)
-        {
-            if (str.length() < 3)
-            {
-                return ITEM_CACHE.computeIfAbsent(str, (s) -> new IntItem(Integer.parseInt(s)));
-            }
-            return new IntItem(Integer.parseInt(str));
-        }
-
         private final int value;
         IntItem(int value)
         {
@@ -137,7 +172,7 @@ class VersionNumberItems
                     int itemValue = ((IntItem)item).value;
                     return Integer.compare(value, itemValue);
                 case LONG:
-                case BIGINTEGER:
+                case DIGITS:
                     return -1;
                 default:
                     throw new IllegalStateException("invalid item: " + item.getClass());
@@ -173,11 +208,16 @@ class VersionNumberItems
             return Integer.toString(value);
         }
 
+        @Override
+        public void appendTo(StringBuilder target)
+        {
+            target.append(value);
+        }
+
         @Override
         public Item increment()
         {
-            int inc = value + 1;
-            return inc < 100 ? IntItem.valueOf((Integer.valueOf(inc).toString())) : new IntItem(inc);
+            return valueOf(value + 1);
         }
     }
 
@@ -186,11 +226,6 @@ class VersionNumberItems
      */
     private static class LongItem implements Item
     {
-        static LongItem valueOf(String str)
-        {
-            return new LongItem(Long.parseLong(str));
-        }
-
         private final long value;
         LongItem(long value)
         {
@@ -224,7 +259,7 @@ class VersionNumberItems
                 case LONG:
                     long itemValue = ((LongItem)item).value;
                     return Long.compare(value, itemValue);
-                case BIGINTEGER:
+                case DIGITS:
                     return -1;
 
                 default:
@@ -252,7 +287,7 @@ class VersionNumberItems
         @Override
         public int hashCode()
         {
-            return Objects.hash(value);
+            return Long.hashCode(value);
         }
 
         @Override
@@ -261,40 +296,43 @@ class VersionNumberItems
             return Long.toString(value);
         }
 
+        @Override
+        public void appendTo(StringBuilder target)
+        {
+            target.append(value);
+        }
+
         @Override
         public Item increment()
         {
             long inc = value + 1;
-            return inc > 999_999_999 ? parseItem((Long.valueOf(inc).toString())) : new LongItem(inc);
+            return inc > MAX_LONGITEM_VALUE ? new DigitsItem(Long.toString(inc)) : new LongItem(inc);
         }
     }
 
     /**
-     * Represents a numeric item in the version item list.
+     * Represents a numeric item in the version item list, which is too large for a long. The number is kept as digits
+     * without leading zeros, so numbers are compared by the length and then by the digits.
      */
-    private static class BigIntegerItem implements Item
+    private static class DigitsItem implements Item
     {
-        static BigIntegerItem valueOf(String str)
+        private final String digits;
+        DigitsItem(String digits)
         {
-            return new BigIntegerItem(new BigInteger(str));
-        }
-
-        private final BigInteger value;
-        BigIntegerItem(BigInteger value)
-        {
-            this.value = value;
+            this.digits = digits;
         }
 
         @Override
         public ItemType getType()
         {
-            return ItemType.BIGINTEGER;
+            return ItemType.DIGITS;
         }
 
         @Override
         public boolean isNull()
         {
-            return BigInteger.ZERO.equals(value);
+            // normalized: zero is an int item
+            return false;
         }
 
         @Override
@@ -306,8 +344,10 @@ class VersionNumberItems
                 case LONG:
                     return 1;
 
-                case BIGINTEGER:
-                    return value.compareTo(((BigIntegerItem)item).value);
+                case DIGITS:
+                    String itemDigits = ((DigitsItem)item).digits;
+                    int result = Integer.compare(digits.length(), itemDigits.length());
+                    return result != 0 ? result : digits.compareTo(itemDigits);
 
                 default:
                     throw new IllegalStateException("invalid item: " + item.getClass());
@@ -326,26 +366,43 @@ class VersionNumberItems
                 return false;
             }
 
-            BigIntegerItem that = (BigIntegerItem)o;
+            DigitsItem that = (DigitsItem)o;
 
-            return value.equals(that.value);
+            return digits.equals(that.digits);
         }
 
         @Override
         public int hashCode()
         {
-            return value.hashCode();
+            return digits.hashCode();
         }
 
         public String toString()
         {
-            return value.toString();
+            return digits;
+        }
+
+        @Override
+        public void appendTo(StringBuilder target)
+        {
+            target.append(digits);
         }
 
         @Override
         public Item increment()
         {
-            return new BigIntegerItem(value.add(BigInteger.ONE));
+            char[] result = digits.toCharArray();
+            int pos = result.length - 1;
+            while(pos >= 0 && result[pos] == '9')
+            {
+                result[pos--] = '0';
+            }
+            if (pos < 0)
+            {
+                return new DigitsItem('1' + new String(result));
+            }
+            result[pos]++;
+            return new DigitsItem(new String(result));
         }
     }
 }
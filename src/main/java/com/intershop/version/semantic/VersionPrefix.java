@@ -0,0 +1,112 @@
+package com.intershop.version.semantic;
+
+/**
+ * Scans the leading major, minor and patch version of a version string without creating objects. The scanner is
+ * conservative: it only returns a prefix if the full resolver would create the same numbers, for all other strings
+ * (e.g. "1.2rc1.3") the prefix is {@link #UNKNOWN}.
+ * <p>
+ * The prefix is packed into a long (14 bits per number), so packed prefixes can be compared directly.
+ */
+class VersionPrefix
+{
+    /**
+     * prefix for versions, which can't be scanned
+     */
+    static final long UNKNOWN = -1;
+
+    private static final int NUMBER_BITS = 14;
+    private static final int NUMBER_MASK = (1 << NUMBER_BITS) - 1;
+    // numbers with more digits are handled as build numbers or dates by the resolver
+    private static final int MAX_DIGITS = 4;
+    private static final int PREFIX_NUMBERS = 3;
+
+    private VersionPrefix()
+    {
+    }
+
+    /**
+     * @param version version string
+     * @return packed major, minor and patch version or {@link #UNKNOWN}
+     */
+    static long scan(String version)
+    {
+        long result = 0;
+        int count = 0;
+        int pos = 0;
+        int length = version.length();
+        while(count < PREFIX_NUMBERS)
+        {
+            int start = pos;
+            int value = 0;
+            while(pos < length && pos - start <= MAX_DIGITS && isDigit(version.charAt(pos)))
+            {
+                value = value * 10 + version.charAt(pos) - '0';
+                pos++;
+            }
+            if (pos == start || pos - start > MAX_DIGITS)
+            {
+                return UNKNOWN;
+            }
+            result = result << NUMBER_BITS | value;
+            count++;
+            if (pos == length || version.charAt(pos) == '-')
+            {
+                // missing numbers are zero (1.2-rc1 == 1.2.0-rc1)
+                break;
+            }
+            if (count < PREFIX_NUMBERS && version.charAt(pos++) != '.')
+            {
+                return UNKNOWN;
+            }
+        }
+        for (; count < PREFIX_NUMBERS; count++)
+        {
+            result = result << NUMBER_BITS;
+        }
+        return result;
+    }
+
+    /**
+     * @param version version
+     * @return packed major, minor and patch version or {@link #UNKNOWN} if the numbers doesn't fit into the prefix
+     */
+    static long of(SemanticVersion version)
+    {
+        return of(version.getMajor(), version.getMinor(), version.getPatch());
+    }
+
+    /**
+     * @param major major version
+     * @param minor minor version
+     * @param patch patch version
+     * @return packed major, minor and patch version or {@link #UNKNOWN} if the numbers doesn't fit into the prefix
+     */
+    static long of(int major, int minor, int patch)
+    {
+        if (((major | minor | patch) & ~NUMBER_MASK) != 0)
+        {
+            return UNKNOWN;
+        }
+        return ((long)major << NUMBER_BITS | minor) << NUMBER_BITS | patch;
+    }
+
+    static int getMajor(long prefix)
+    {
+        return (int)(prefix >>> (2 * NUMBER_BITS)) & NUMBER_MASK;
+    }
+
+    static int getMinor(long prefix)
+    {
+        return (int)(prefix >>> NUMBER_BITS) & NUMBER_MASK;
+    }
+
+    static int getPatch(long prefix)
+    {
+        return (int)prefix & NUMBER_MASK;
+    }
+
+    private static boolean isDigit(char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+}
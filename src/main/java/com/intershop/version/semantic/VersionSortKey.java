@@ -0,0 +1,180 @@
+package com.intershop.version.semantic;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Order preserving sort key of a {@link SemanticVersionImpl} packed into a long.
+ * <p>
+ * The key contains the first four version numbers (14 bits each) and the release type (4 bits). For two versions
+ * {@code a < b} (see {@link VersionComparators#VERSION_IMPL_COMPARATOR}) the keys satisfy {@code key(a) <= key(b)}.
+ * So different keys define the order, equal keys must be resolved with the comparator.
+ * <p>
+ * Numbers, which doesn't fit into the key, mark the key as "deep" (all following bits are set).
+ * <p>
+ * Versions with equal keys can be ordered with a {@link #rank(SemanticVersionImpl) rank} in case the version has at
+ * most one extension, which is relevant for sorting (e.g. "rc1" or "v20161208").
+ */
+class VersionSortKey
+{
+    private static final int NUMBER_BITS = 14;
+    private static final int MAX_NUMBER = (1 << NUMBER_BITS) - 1;
+    private static final int KEY_NUMBERS = 4;
+    private static final int TYPE_BITS = 4;
+    private static final int DEEP = ExtensionType.values().length;
+
+    /**
+     * rank for versions with extensions, which can't be expressed as rank
+     */
+    static final long UNRANKED = -1;
+    private static final int RANK_NUMBER_BITS = 30;
+    private static final int RANK_WORD_BITS = 6;
+    private static final int RANK_EMPTY_WORD = (1 << RANK_WORD_BITS) - 1;
+    /**
+     * rank of versions without extension, which is relevant for sorting
+     */
+    static final long RANK_WITHOUT_EXTENSION = pack(ExtensionType.GA, RANK_EMPTY_WORD, 0);
+    /**
+     * result of {@link #compare(long, long, long, long)} if the versions must be compared with the comparator
+     */
+    static final int UNDECIDED = Integer.MIN_VALUE;
+
+    private VersionSortKey()
+    {
+    }
+
+    /**
+     * @param version version to convert
+     * @return order preserving sort key
+     */
+    static long of(SemanticVersionImpl version)
+    {
+        return of(version.getNumbers(), version.getReleaseType());
+    }
+
+    /**
+     * @param numbers version numbers
+     * @param releaseType release type of the version
+     * @return order preserving sort key
+     */
+    static long of(List<Integer> numbers, ExtensionType releaseType)
+    {
+        return of(numbers.size(), numbers::get, releaseType);
+    }
+
+    /**
+     * @param count amount of version numbers
+     * @param numbers returns the version number at a position
+     * @param releaseType release type of the version
+     * @return order preserving sort key
+     */
+    static long of(int count, IntUnaryOperator numbers, ExtensionType releaseType)
+    {
+        long key = 0;
+        boolean deep = false;
+        for (int i = 0; i < KEY_NUMBERS; i++)
+        {
+            int number = i < count ? numbers.applyAsInt(i) : 0;
+            if (deep || number >= MAX_NUMBER)
+            {
+                // numbers after an overflow are not comparable anymore
+                number = MAX_NUMBER;
+                deep = true;
+            }
+            key = key << NUMBER_BITS | number;
+        }
+        for (int i = KEY_NUMBERS; !deep && i < count; i++)
+        {
+            // 1.2.3.4.0 == 1.2.3.4 but 1.2.3.4.1 is greater than all 1.2.3.4 versions
+            deep = numbers.applyAsInt(i) != 0;
+        }
+        return key << TYPE_BITS | (deep ? DEEP : releaseType.ordinal());
+    }
+
+    /**
+     * @param key sort key
+     * @return true if the version numbers doesn't fit into the key
+     */
+    static boolean isDeep(long key)
+    {
+        return (key & ((1 << TYPE_BITS) - 1)) == DEEP;
+    }
+
+    /**
+     * Versions with the same (non deep) key and the same rank are equal. Versions with the same key and a different
+     * rank are ordered by the rank.
+     *
+     * @param version version to rank
+     * @return rank of the extensions or {@link #UNRANKED}
+     */
+    static long rank(SemanticVersionImpl version)
+    {
+        VersionExtensionItem relevant = null;
+        for (VersionExtensionItem extension : version.getExtensions())
+        {
+            if (extension.getExtensionType().isAreNumbersRelevantForSorting())
+            {
+                if (relevant != null)
+                {
+                    return UNRANKED;
+                }
+                relevant = extension;
+            }
+        }
+        if (relevant == null)
+        {
+            return RANK_WITHOUT_EXTENSION;
+        }
+        List<VersionNumberItems.Item> numbers = relevant.getNumbers();
+        int number = numbers.isEmpty() ? 0 : VersionNumberItems.intValue(numbers.get(0));
+        for (int i = 1; number >= 0 && i < numbers.size(); i++)
+        {
+            // rc1.0 == rc1
+            number = numbers.get(i).isNull() ? number : -1;
+        }
+        return rank(relevant.getExtensionType(), relevant.getCode(), number);
+    }
+
+    /**
+     * @param type type of the only extension, which is relevant for sorting
+     * @param code dictionary code of the extension word
+     * @param number first number of the extension (0 if the extension has no number, negative if the number doesn't
+     *            fit into an int)
+     * @return rank of the extension or {@link #UNRANKED}
+     */
+    static long rank(ExtensionType type, short code, int number)
+    {
+        // codes of known words are ordered like the words
+        int word = code == ExtensionDictionary.EMPTY ? RANK_EMPTY_WORD
+                        : ExtensionDictionary.isOrdered(code) && code < RANK_EMPTY_WORD ? code : -1;
+        // GA extensions are compared with missing extensions by numbers only
+        if (word < 0 || word != RANK_EMPTY_WORD && ExtensionType.GA.equals(type))
+        {
+            return UNRANKED;
+        }
+        return number < 0 ? UNRANKED : pack(type, word, number);
+    }
+
+    /**
+     * Compares two versions by the sort key and the rank.
+     *
+     * @return the same result as the comparator or {@link #UNDECIDED} if the key and the rank are not sufficient
+     */
+    static int compare(long keyA, long rankA, long keyB, long rankB)
+    {
+        if (keyA != keyB)
+        {
+            return Long.compare(keyA, keyB);
+        }
+        if (isDeep(keyA) || rankA == UNRANKED || rankB == UNRANKED)
+        {
+            return UNDECIDED;
+        }
+        return Long.compare(rankA, rankB);
+    }
+
+    private static long pack(ExtensionType type, int word, int number)
+    {
+        return ((long)type.ordinal() << RANK_WORD_BITS | word) << RANK_NUMBER_BITS | number;
+    }
+}
@@ -0,0 +1,120 @@
+package com.intershop.version.semantic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sorts (lowest first) large lists of versions. Each version is converted once to a precomputed
+ * {@link VersionSortKey}, the comparator is only used for versions with the same key. Version strings are scanned
+ * with the {@link VersionKeyScanner}, so only versions, which can't be ordered by the key, are resolved completely.
+ */
+class VersionSorter
+{
+    /**
+     * below that size the versions are sorted directly with the comparator (same as Arrays.parallelSort)
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private VersionSorter()
+    {
+    }
+
+    /**
+     * @param versions versions to sort
+     * @return sorted list of versions (lowest first)
+     */
+    static List<SemanticVersion> sort(Collection<? extends SemanticVersion> versions)
+    {
+        SemanticVersion[] result = versions.toArray(new SemanticVersion[0]);
+        if (result.length < PARALLEL_THRESHOLD || !isVersionImpl(result))
+        {
+            sortDirect(result);
+            return Arrays.asList(result);
+        }
+        ScannedVersion[] keyed = new ScannedVersion[result.length];
+        for (int i = 0; i < result.length; i++)
+        {
+            keyed[i] = ScannedVersion.of(result[i]);
+        }
+        sort(keyed, ScannedVersion.COMPARATOR);
+        for (int i = 0; i < keyed.length; i++)
+        {
+            result[i] = keyed[i].getVersion();
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * @param versions versions to sort
+     * @return sorted list of the given version strings (lowest first)
+     */
+    static List<String> sortStrings(Collection<String> versions)
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        ScannedVersion[] scanned = new ScannedVersion[versions.size()];
+        int i = 0;
+        for (String version : versions)
+        {
+            scanned[i++] = ScannedVersion.of(version, scanner);
+        }
+        sort(scanned, ScannedVersion.COMPARATOR);
+        String[] result = new String[scanned.length];
+        for (i = 0; i < result.length; i++)
+        {
+            result[i] = scanned[i].getString();
+        }
+        return Arrays.asList(result);
+    }
+
+    private static void sortDirect(SemanticVersion[] versions)
+    {
+        sort(versions, VersionComparators.VERSION_COMPARATOR);
+    }
+
+    /**
+     * Sorts large arrays in parallel and reports the comparisons to the metrics
+     */
+    private static <T> void sort(T[] values, Comparator<T> comparator)
+    {
+        VersionEvents.Sort event = new VersionEvents.Sort();
+        event.begin();
+        if (VersionMetrics.ENABLED)
+        {
+            LongAdder comparisons = new LongAdder();
+            sortWith(values, VersionMetrics.counting(comparator, comparisons));
+            VersionMetrics.METRICS.sorted(values.length, comparisons.sum());
+        }
+        else
+        {
+            sortWith(values, comparator);
+        }
+        event.commit(values.length, values.length >= PARALLEL_THRESHOLD);
+    }
+
+    private static <T> void sortWith(T[] values, Comparator<T> comparator)
+    {
+        if (values.length < PARALLEL_THRESHOLD)
+        {
+            Arrays.sort(values, comparator);
+        }
+        else
+        {
+            Arrays.parallelSort(values, comparator);
+        }
+    }
+
+    private static boolean isVersionImpl(SemanticVersion[] versions)
+    {
+        for (SemanticVersion version : versions)
+        {
+            if (!(version instanceof SemanticVersionImpl))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,155 @@
+package com.intershop.version.semantic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the newest K versions with a min-heap of size K without sorting all versions. Optionally only versions are
+ * selected, which are reachable from a current version with an {@link UpdateStrategy} (same semantic as
+ * {@link SemanticVersionMigration#getMigration(UpdateStrategy, java.util.Collection, String)}).
+ * <p>
+ * Version strings are scanned with the {@link VersionKeyScanner} and compared by the sort key, so only the selected
+ * versions are resolved completely. Versions, which can't be scanned, are not resolved if they are already excluded by
+ * the major, minor and patch version.
+ */
+class VersionTopK
+{
+    private final int limit;
+    private final UpdateStrategy strategy;
+    private final ScannedVersion current;
+    private final PriorityQueue<ScannedVersion> heap;
+    private final VersionKeyScanner scanner = new VersionKeyScanner();
+
+    /**
+     * @param limit maximum amount of selected versions
+     * @param strategy update strategy or null if all versions are accepted
+     * @param current current version (required if a strategy is given)
+     */
+    VersionTopK(int limit, UpdateStrategy strategy, SemanticVersion current)
+    {
+        if (limit < 0)
+        {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+        this.strategy = strategy;
+        this.current = current == null ? null : ScannedVersion.of(current);
+        this.heap = new PriorityQueue<>(Math.max(1, limit), ScannedVersion.COMPARATOR);
+    }
+
+    /**
+     * @param version candidate as string
+     */
+    void offer(String version)
+    {
+        if (scanner.scan(version))
+        {
+            if (isAccepted(scanner.getMajor(), scanner.getMinor(), scanner.getReleaseType().isRecommendedForProduction()))
+            {
+                offer(ScannedVersion.ofScanned(version, scanner));
+            }
+            return;
+        }
+        long prefix = VersionPrefix.scan(version);
+        if (prefix == VersionPrefix.UNKNOWN || isPrefixAccepted(prefix))
+        {
+            offer(SemanticVersion.valueOf(version));
+        }
+    }
+
+    /**
+     * @param version candidate
+     */
+    void offer(SemanticVersion version)
+    {
+        if (isAccepted(version.getMajor(), version.getMinor(), version.isRecommendedForProduction()))
+        {
+            offer(ScannedVersion.of(version));
+        }
+    }
+
+    private void offer(ScannedVersion version)
+    {
+        // don't return a number older than current (may develop is used)
+        if (strategy != null && ScannedVersion.COMPARATOR.compare(version, current) <= 0)
+        {
+            return;
+        }
+        if (heap.size() < limit)
+        {
+            heap.add(version);
+        }
+        else if (limit > 0 && ScannedVersion.COMPARATOR.compare(version, heap.peek()) > 0)
+        {
+            heap.poll();
+            heap.add(version);
+        }
+    }
+
+    /**
+     * @return selected versions (newest first)
+     */
+    List<SemanticVersion> getResult()
+    {
+        List<ScannedVersion> selected = new ArrayList<>(heap);
+        selected.sort(Collections.reverseOrder(ScannedVersion.COMPARATOR));
+        List<SemanticVersion> result = new ArrayList<>(selected.size());
+        for (ScannedVersion version : selected)
+        {
+            result.add(version.getVersion());
+        }
+        return result;
+    }
+
+    private boolean isPrefixAccepted(long prefix)
+    {
+        if (heap.size() == limit && heap.peek() != null && heap.peek().getPrefix() != VersionPrefix.UNKNOWN
+                        && prefix < heap.peek().getPrefix())
+        {
+            return false;
+        }
+        if (strategy == null)
+        {
+            return true;
+        }
+        if (current.getPrefix() != VersionPrefix.UNKNOWN && prefix < current.getPrefix())
+        {
+            return false;
+        }
+        return isAccepted(VersionPrefix.getMajor(prefix), VersionPrefix.getMinor(prefix), true);
+    }
+
+    /**
+     * @param major major version of the candidate
+     * @param minor minor version of the candidate
+     * @param recommendedForProduction production state of the candidate
+     * @return true if the strategy accepts the candidate (the candidate must be newer than the current version also)
+     */
+    private boolean isAccepted(int major, int minor, boolean recommendedForProduction)
+    {
+        if (strategy == null)
+        {
+            return true;
+        }
+        SemanticVersion currentVersion = current.getVersion();
+        switch(strategy)
+        {
+            case MAJOR:
+                return recommendedForProduction;
+            case MINOR:
+                return major == currentVersion.getMajor() && recommendedForProduction;
+            case PATCH:
+                return major == currentVersion.getMajor() && minor == currentVersion.getMinor()
+                                && recommendedForProduction;
+            case DEV:
+            case INC:
+                return true;
+            case STICK:
+                return false;
+            default:
+                throw new IllegalArgumentException("Unknown meaning provided");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link SemanticVersionMetricsRecorder} is registered in META-INF/services of the metricsTest source set, which
+ * runs in its own test task, so the other tests run without metrics
+ */
+class SemanticVersionMetricsTest
+{
+    private final SemanticVersionMetricsRecorder metrics = (SemanticVersionMetricsRecorder)VersionMetrics.METRICS;
+
+    @Test
+    void testParsed()
+    {
+        assertTrue(VersionMetrics.ENABLED);
+        long parsed = metrics.getParseCount();
+        long nanos = metrics.getParseNanos();
+        SemanticVersion.valueOf("1.2.3-rc1");
+        SemanticVersion.valueOf("1.2.4");
+        assertTrue(metrics.getParseCount() >= parsed + 2);
+        assertTrue(metrics.getParseNanos() >= nanos);
+        assertTrue(Arrays.stream(metrics.getParseLatencyHistogram()).sum() >= parsed + 2);
+    }
+
+    @Test
+    void testRejected()
+    {
+        long errors = metrics.getErrors("tryParse");
+        SemanticVersion.tryParse("1..2");
+        SemanticVersion.tryParse("1.2");
+        assertTrue(metrics.getErrors("tryParse") >= errors + 1);
+        long incrementErrors = metrics.getErrors("increment");
+        assertThrows(IllegalArgumentException.class,
+                        () -> new SemanticVersionIncrementor().incrementForRelease(Collections.singletonList("1.0.0"),
+                                        UpdateStrategy.STICK));
+        assertTrue(metrics.getErrors("increment") >= incrementErrors + 1);
+    }
+
+    @Test
+    void testCache()
+    {
+        long hits = metrics.getCacheHits("versions");
+        long misses = metrics.getCacheMisses("versions");
+        SemanticVersionInterner interner = new SemanticVersionInterner();
+        interner.intern("1.2.3");
+        interner.intern("1.2.3");
+        assertTrue(metrics.getCacheHits("versions") >= hits + 1);
+        assertTrue(metrics.getCacheMisses("versions") >= misses + 1);
+    }
+
+    @Test
+    void testSorted()
+    {
+        long sorts = metrics.getSorts();
+        long comparisons = metrics.getComparisons();
+        SemanticVersions.sortStrings(Arrays.asList("1.2.3", "1.0", "2.0-rc1", "1.1"));
+        assertTrue(metrics.getSorts() >= sorts + 1);
+        assertTrue(metrics.getComparisons() >= comparisons + 3);
+    }
+
+    @Test
+    void testMigration()
+    {
+        long scanned = metrics.getScannedCandidates(UpdateStrategy.PATCH);
+        long accepted = metrics.getAcceptedCandidates(UpdateStrategy.PATCH);
+        List<String> versions = Arrays.asList("1.2.4", "1.3.0", "2.0.1", "2.0.2-RC1", "1.2.5-rc1");
+        assertEquals("1.2.4", SemanticVersions.getNewestVersion(UpdateStrategy.PATCH, versions, "1.2.3"));
+        assertTrue(metrics.getScannedCandidates(UpdateStrategy.PATCH) >= scanned + 5);
+        assertTrue(metrics.getAcceptedCandidates(UpdateStrategy.PATCH) >= accepted + 1);
+    }
+}
@@ -0,0 +1,306 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Resolves, compares, increments and sorts random versions from many threads at the same time and checks that all
+ * threads get the same results as a single thread. The shared state of the library (extension dictionary, number
+ * item cache, interner) is used by all threads.
+ */
+class ConcurrencyStressTest
+{
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    // more threads than cores to create contention also on small machines
+    private static final int THREADS = Math.max(8, CORES * 4);
+    private static final int SIZE = 3_000;
+    private static final int PAIRS = 5_000;
+    private static final long MEASURE_MILLIS = 200;
+
+    private final List<String> corpus = new VersionCorpus(23).create(SIZE);
+
+    @Test
+    void testSameResultsAcrossThreads() throws Exception
+    {
+        List<Expected> expected = new ArrayList<>(corpus.size());
+        for (String version : corpus)
+        {
+            expected.add(new Expected(SemanticVersion.valueOf(version)));
+        }
+        Random random = new Random(29);
+        int[] left = new int[PAIRS];
+        int[] right = new int[PAIRS];
+        int[] signs = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++)
+        {
+            left[i] = random.nextInt(corpus.size());
+            right[i] = random.nextInt(corpus.size());
+            signs[i] = Integer.signum(SemanticVersion.valueOf(corpus.get(left[i]))
+                                                     .compareTo(SemanticVersion.valueOf(corpus.get(right[i]))));
+        }
+        SemanticVersionInterner interner = new SemanticVersionInterner();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        runConcurrently(THREADS, thread -> {
+            Random order = new Random(thread);
+            // the interner is shared, the other resolvers are created per thread
+            SemanticVersionResolver resolver = thread % 2 == 0 ? new SemanticVersionResolverImpl()
+                            : new StrictSemanticVersionResolver();
+            for (int n = 0; n < corpus.size(); n++)
+            {
+                int i = order.nextInt(corpus.size());
+                String version = corpus.get(i);
+                SemanticVersion resolved = thread % 3 == 0 ? interner.intern(version) : resolver.apply(version);
+                String difference = expected.get(i).difference(resolved);
+                if (difference != null)
+                {
+                    failures.add(version + ": " + difference);
+                }
+            }
+            for (int i = 0; i < PAIRS; i++)
+            {
+                SemanticVersion a = resolver.apply(corpus.get(left[i]));
+                int sign = Integer.signum(a.compareTo(resolver.apply(corpus.get(right[i]))));
+                if (sign != signs[i])
+                {
+                    failures.add(corpus.get(left[i]) + " <> " + corpus.get(right[i]) + ": " + sign);
+                }
+            }
+        });
+        assertTrue(failures.isEmpty(), () -> failures.size() + " failures, e.g. " + failures.peek());
+    }
+
+    @Test
+    void testExtensionDictionaryAcrossThreads() throws Exception
+    {
+        // words, which are new for the dictionary, are registered by all threads at the same time
+        List<String> words = new ArrayList<>();
+        // the prefix makes the words new for the dictionary, a fixed seed keeps failures reproducible
+        Random random = new Random(37);
+        for (int i = 0; i < 200; i++)
+        {
+            words.add("stress" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36).replaceAll("[0-9]", "x"));
+        }
+        List<Map<String, Short>> codes = Collections.synchronizedList(new ArrayList<>());
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        runConcurrently(THREADS, thread -> {
+            Map<String, Short> threadCodes = new HashMap<>();
+            for (String word : words)
+            {
+                String string = "1.0-" + word.toUpperCase(Locale.US);
+                SemanticVersionImpl version = (SemanticVersionImpl)SemanticVersion.valueOf(string);
+                VersionExtensionItem extension = version.getItem().getExtensions().get(0);
+                if (!word.equals(version.getExtension()))
+                {
+                    failures.add(word + ": " + version.getExtension());
+                }
+                threadCodes.put(word, extension.getCode());
+            }
+            codes.add(threadCodes);
+        });
+        assertTrue(failures.isEmpty(), () -> failures.size() + " failures, e.g. " + failures.peek());
+        assertEquals(THREADS, codes.size());
+        codes.forEach(c -> assertEquals(codes.get(0), c));
+    }
+
+    @Test
+    void testStableSortAcrossThreads() throws Exception
+    {
+        // larger than the threshold of the parallel sort
+        List<String> strings = new VersionCorpus(31).create(VersionSorter.PARALLEL_THRESHOLD + SIZE);
+        List<SemanticVersion> versions = new ArrayList<>(strings.size());
+        Map<SemanticVersion, Integer> positions = new IdentityHashMap<>();
+        for (String string : strings)
+        {
+            SemanticVersion version = SemanticVersion.valueOf(string);
+            positions.put(version, versions.size());
+            versions.add(version);
+        }
+        List<String> expectedStrings = SemanticVersions.sortStrings(strings);
+        List<SemanticVersion> expected = SemanticVersions.sort(versions);
+        assertStable(expected, positions);
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        runConcurrently(Math.min(THREADS, 8), thread -> {
+            List<SemanticVersion> sorted = SemanticVersions.sort(versions);
+            for (int i = 0; i < sorted.size(); i++)
+            {
+                if (sorted.get(i) != expected.get(i))
+                {
+                    failures.add("sort differs at " + i + ": " + sorted.get(i).getVersion());
+                    break;
+                }
+            }
+            if (!expectedStrings.equals(SemanticVersions.sortStrings(strings)))
+            {
+                failures.add("string sort differs in thread " + thread);
+            }
+        });
+        assertTrue(failures.isEmpty(), () -> failures.size() + " failures, e.g. " + failures.peek());
+    }
+
+    /**
+     * Measures the throughput with an increasing amount of threads. The measurement is not part of the build, it's
+     * executed by the task "benchmark".
+     */
+    @Test
+    @Tag("benchmark")
+    void testThroughputScaling(TestReporter reporter) throws Exception
+    {
+        long singleThread = 0;
+        for (int threads = 1; threads <= Math.max(2, CORES); threads *= 2)
+        {
+            long operations = measure(threads, TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS));
+            singleThread = threads == 1 ? operations : singleThread;
+            reporter.publishEntry("threads " + threads,
+                            String.format(Locale.US, "resolve and compare operations/s=%d scaling=%.2f",
+                                            operations * 1000 / MEASURE_MILLIS, (double)operations / singleThread));
+            assertTrue(operations > 0);
+        }
+    }
+
+    /**
+     * @return amount of operations of all threads in the given time
+     */
+    private long measure(int threads, long nanos) throws Exception
+    {
+        long[] operations = new long[threads];
+        runConcurrently(threads, thread -> {
+            SemanticVersionResolver resolver = new SemanticVersionResolverImpl();
+            Random random = new Random(thread);
+            long end = System.nanoTime() + nanos;
+            long count = 0;
+            while(System.nanoTime() < end)
+            {
+                SemanticVersion a = resolver.apply(corpus.get(random.nextInt(corpus.size())));
+                SemanticVersion b = resolver.apply(corpus.get(random.nextInt(corpus.size())));
+                // the result is used, so the comparison is not removed by the JIT
+                count += a.compareTo(b) == Integer.MIN_VALUE ? 0 : 1;
+            }
+            operations[thread] = count;
+        });
+        long result = 0;
+        for (long count : operations)
+        {
+            result += count;
+        }
+        return result;
+    }
+
+    /**
+     * Starts all tasks at the same time and waits for all of them, failures of the tasks are rethrown.
+     *
+     * @param threads amount of threads
+     * @param task task, which gets the number of the thread
+     */
+    private static void runConcurrently(int threads, IntConsumer task) throws InterruptedException, ExecutionException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+            {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertStable(List<SemanticVersion> sorted, Map<SemanticVersion, Integer> positions)
+    {
+        for (int i = 1; i < sorted.size(); i++)
+        {
+            SemanticVersion previous = sorted.get(i - 1);
+            SemanticVersion current = sorted.get(i);
+            assertTrue(previous.compareTo(current) <= 0, current.getVersion());
+            if (previous.compareTo(current) == 0)
+            {
+                assertTrue(positions.get(previous) < positions.get(current), current.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Result of a single thread
+     */
+    private static final class Expected
+    {
+        private final String string;
+        private final String extension;
+        private final ExtensionType releaseType;
+        private final String incremented;
+        private final int hashCode;
+
+        private Expected(SemanticVersion version)
+        {
+            this.string = version.toString();
+            this.extension = version.getExtension();
+            this.releaseType = version.getReleaseType();
+            this.incremented = version.incrementLastIncrement().toString();
+            this.hashCode = version.hashCode();
+        }
+
+        /**
+         * @return description of the difference or null
+         */
+        private String difference(SemanticVersion version)
+        {
+            if (!string.equals(version.toString()))
+            {
+                return "toString " + version;
+            }
+            if (!extension.equals(version.getExtension()))
+            {
+                return "extension " + version.getExtension();
+            }
+            if (releaseType != version.getReleaseType())
+            {
+                return "release type " + version.getReleaseType();
+            }
+            if (!incremented.equals(version.incrementLastIncrement().toString()))
+            {
+                return "increment " + version.incrementLastIncrement();
+            }
+            if (hashCode != version.hashCode())
+            {
+                return "hash code " + version.hashCode();
+            }
+            return null;
+        }
+    }
+}
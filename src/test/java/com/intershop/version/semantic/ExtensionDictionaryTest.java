@@ -0,0 +1,79 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ExtensionDictionaryTest
+{
+    @Test
+    void testKnownWordsAreOrdered()
+    {
+        List<String> words = Arrays.asList("", "alpha", "beta", "dev", "jre", "local", "milestone", "rc", "snapshot",
+                        "sp");
+        for (int i = 1; i < words.size(); i++)
+        {
+            short before = ExtensionDictionary.getCode(words.get(i - 1));
+            short after = ExtensionDictionary.getCode(words.get(i));
+            assertTrue(ExtensionDictionary.isOrdered(after), words.get(i));
+            assertTrue(before < after, words.get(i - 1) + " < " + words.get(i));
+        }
+        assertEquals(ExtensionDictionary.EMPTY, ExtensionDictionary.getCode(""));
+    }
+
+    @Test
+    void testKnownWordsOfResolver()
+    {
+        // the dictionary keeps its own list of the known words of the resolver
+        for (String alias : SemanticVersionResolverImpl.getExtensionAliases())
+        {
+            String word = SemanticVersionResolverImpl.getReleaseExtension(alias);
+            assertTrue(ExtensionDictionary.isOrdered(ExtensionDictionary.getCode(word)), word);
+        }
+    }
+
+    @Test
+    void testUnknownWordsAreStable()
+    {
+        short code = ExtensionDictionary.getCode("xyz-dictionary-test");
+        assertNotEquals(ExtensionDictionary.UNKNOWN, code);
+        assertEquals(code, ExtensionDictionary.getCode(new String("xyz-dictionary-test")));
+        assertSame(ExtensionDictionary.getWord(code, null), ExtensionDictionary.getWord(code, null));
+        assertEquals("xyz-dictionary-test", ExtensionDictionary.getWord(code, null));
+    }
+
+    @Test
+    void testCompareLikeStrings()
+    {
+        List<String> words = Arrays.asList("", "alpha", "aaa", "rc", "rcx", "r", "snapshot", "zzz", "beta", "b0",
+                        "sp", "spx");
+        for (String a : words)
+        {
+            for (String b : words)
+            {
+                int expected = Integer.signum(a.compareTo(b));
+                int result = Integer.signum(ExtensionDictionary.compare(ExtensionDictionary.getCode(a), a,
+                                ExtensionDictionary.getCode(b), b));
+                assertEquals(expected, result, a + " vs " + b);
+            }
+        }
+    }
+
+    @Test
+    void testExtensionItemUsesCodes()
+    {
+        SemanticVersionImpl version = (SemanticVersionImpl)SemanticVersion.valueOf("1.0-RC1");
+        VersionExtensionItem extension = version.getItem().getExtensions().get(0);
+        assertEquals("rc", extension.getExtension());
+        assertEquals(ExtensionDictionary.getCode("rc"), extension.getCode());
+        assertEquals(-1, SemanticVersion.valueOf("1.0-beta1").compareTo(SemanticVersion.valueOf("1.0-rc1")));
+        assertEquals(-1, SemanticVersion.valueOf("1.0-foo1").compareTo(SemanticVersion.valueOf("1.0-goo1")));
+        assertEquals(0, SemanticVersion.valueOf("1.0-foo1").compareTo(SemanticVersion.valueOf("1.0-FOO1")));
+    }
+}
@@ -0,0 +1,138 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class GitTagReaderTest
+{
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    private static Path createRepository() throws IOException
+    {
+        Path repository = Files.createTempDirectory("repository");
+        Path git = Files.createDirectories(repository.resolve(".git"));
+        Files.write(git.resolve("packed-refs"), Arrays.asList("# pack-refs with: peeled fully-peeled sorted ",
+                        SHA + " refs/heads/main", SHA + " refs/tags/v1.2.3", "^" + SHA, SHA + " refs/tags/v1.3.0",
+                        SHA + " refs/tags/module-a/2.0.0", SHA + " refs/tags/module-a/2.1.0-rc1",
+                        SHA + " refs/tags/release-notes", SHA + " refs/tags/v1.4.0-SNAPSHOT"),
+                        StandardCharsets.UTF_8);
+        Path tags = Files.createDirectories(git.resolve("refs/tags/module-a"));
+        Files.write(git.resolve("refs/tags/v1.3.1"), Collections.singletonList(SHA), StandardCharsets.UTF_8);
+        Files.write(git.resolve("refs/tags/v1.3.0"), Collections.singletonList(SHA), StandardCharsets.UTF_8);
+        Files.write(tags.resolve("2.0.1"), Collections.singletonList(SHA), StandardCharsets.UTF_8);
+        return repository;
+    }
+
+    private static void delete(Path repository) throws IOException
+    {
+        try (Stream<Path> files = Files.walk(repository))
+        {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList()))
+            {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testTags() throws IOException
+    {
+        Path repository = createRepository();
+        try
+        {
+            List<String> tags = new GitTagReader(repository, "").getTags();
+            assertEquals(Arrays.asList("module-a/2.0.0", "module-a/2.0.1", "module-a/2.1.0-rc1", "release-notes",
+                            "v1.2.3", "v1.3.0", "v1.3.1", "v1.4.0-SNAPSHOT"),
+                            tags.stream().sorted().collect(Collectors.toList()));
+        }
+        finally
+        {
+            delete(repository);
+        }
+    }
+
+    @Test
+    void testPrefix() throws IOException
+    {
+        Path repository = createRepository();
+        try
+        {
+            GitTagReader reader = new GitTagReader(repository, "v");
+            try (Stream<String> versions = reader.versions())
+            {
+                assertEquals(Arrays.asList("1.2.3", "1.3.0", "1.3.1", "1.4.0-SNAPSHOT"),
+                                versions.sorted().collect(Collectors.toList()));
+            }
+            assertEquals(Optional.of("1.4.0-SNAPSHOT"), reader.getNewestVersion());
+            GitTagReader module = new GitTagReader(repository.resolve(".git"), "module-a/");
+            assertEquals(Optional.of("2.1.0-rc1"), module.getNewestVersion());
+            assertEquals(Optional.empty(), new GitTagReader(repository, "unknown/").getNewestVersion());
+        }
+        finally
+        {
+            delete(repository);
+        }
+    }
+
+    @Test
+    void testIncrementor() throws IOException
+    {
+        Path repository = createRepository();
+        try
+        {
+            SemanticVersionIncrementor incrementor = new SemanticVersionIncrementor();
+            try (Stream<SemanticVersion> versions = new GitTagReader(repository, "module-a/").semanticVersions())
+            {
+                assertEquals("2.1.0", incrementor.incrementResolvedForRelease(versions, UpdateStrategy.PATCH));
+            }
+            try (Stream<String> versions = new GitTagReader(repository, "module-a/").versions())
+            {
+                assertEquals("2.1.0", incrementor.incrementForRelease(versions, UpdateStrategy.PATCH));
+            }
+            try (Stream<SemanticVersion> versions = new GitTagReader(repository, "v").semanticVersions())
+            {
+                List<String> expected = Arrays.asList("1.2.3", "1.3.0", "1.3.1", "1.4.0-SNAPSHOT");
+                assertEquals(incrementor.incrementForPreRelease(expected, UpdateStrategy.MINOR),
+                                incrementor.incrementResolvedForPreRelease(versions, UpdateStrategy.MINOR));
+            }
+            assertEquals("1.0.0", incrementor.incrementForRelease(Stream.empty(), UpdateStrategy.PATCH));
+            assertEquals("1.0.0-alpha1", incrementor.incrementResolvedForPreRelease(Stream.empty(),
+                            UpdateStrategy.PATCH));
+        }
+        finally
+        {
+            delete(repository);
+        }
+    }
+
+    @Test
+    void testLinkedWorkTree() throws IOException
+    {
+        Path repository = createRepository();
+        try
+        {
+            Path worktreeGit = Files.createDirectories(repository.resolve(".git/worktrees/feature"));
+            Files.write(worktreeGit.resolve("commondir"), Collections.singletonList("../.."), StandardCharsets.UTF_8);
+            Path worktree = Files.createDirectories(repository.resolve("feature"));
+            Files.write(worktree.resolve(".git"), Collections.singletonList("gitdir: ../.git/worktrees/feature"),
+                            StandardCharsets.UTF_8);
+            assertEquals(Optional.of("1.4.0-SNAPSHOT"), new GitTagReader(worktree, "v").getNewestVersion());
+        }
+        finally
+        {
+            delete(repository);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class LazySemanticVersionTest
+{
+    private static final SemanticVersionResolverImpl RESOLVER = new SemanticVersionResolverImpl();
+
+    @Test
+    void testSameAsResolved()
+    {
+        List<String> versions = new VersionCorpus(5).create(2_000);
+        for (String version : versions)
+        {
+            SemanticVersion lazy = LazySemanticVersion.of(version, RESOLVER);
+            SemanticVersion resolved = RESOLVER.apply(version);
+            assertEquals(resolved.getMajor(), lazy.getMajor(), version);
+            assertEquals(resolved.getMinor(), lazy.getMinor(), version);
+            assertEquals(resolved.getPatch(), lazy.getPatch(), version);
+            assertEquals(resolved.getReleaseType(), lazy.getReleaseType(), version);
+            assertEquals(resolved.getExtension(), lazy.getExtension(), version);
+            assertEquals(resolved, lazy, version);
+            assertEquals(lazy, resolved, version);
+            assertEquals(resolved.hashCode(), lazy.hashCode(), version);
+        }
+        for (int i = 1; i < versions.size(); i++)
+        {
+            String a = versions.get(i - 1);
+            String b = versions.get(i);
+            int expected = Integer.signum(RESOLVER.apply(a).compareTo(RESOLVER.apply(b)));
+            SemanticVersion lazyA = LazySemanticVersion.of(a, RESOLVER);
+            SemanticVersion lazyB = LazySemanticVersion.of(b, RESOLVER);
+            assertEquals(expected, Integer.signum(lazyA.compareTo(lazyB)), a + " vs " + b);
+            assertEquals(expected, Integer.signum(lazyA.compareTo(RESOLVER.apply(b))), a + " vs " + b);
+            assertEquals(expected, Integer.signum(RESOLVER.apply(a).compareTo(lazyB)), a + " vs " + b);
+        }
+    }
+
+    @Test
+    void testExtensionsResolvedOnDemand()
+    {
+        LazySemanticVersion a = (LazySemanticVersion)LazySemanticVersion.of("1.2.3-rc1", RESOLVER);
+        LazySemanticVersion b = (LazySemanticVersion)LazySemanticVersion.of("1.3.0-SNAPSHOT", RESOLVER);
+        assertEquals(2, a.getMinor());
+        assertTrue(a.compareTo(b) < 0);
+        assertFalse(a.isResolved());
+        assertFalse(b.isResolved());
+        assertEquals(ExtensionType.PRE, a.getReleaseType());
+        assertTrue(a.isResolved());
+    }
+
+    @Test
+    void testColumnsResolveMatchingRowsOnly()
+    {
+        List<SemanticVersion> versions = Arrays.asList("1.2.4", "2.0.0-rc1", "1.2.5-SNAPSHOT", "1.3.0", "1.2.4-sp1")
+                                               .stream()
+                                               .map(v -> LazySemanticVersion.of(v, RESOLVER))
+                                               .collect(Collectors.toList());
+        Optional<SemanticVersion> result = SemanticVersionColumns.of(versions)
+                                                                 .max(1, 2, true,
+                                                                                 VersionComparators.VERSION_COMPARATOR);
+        assertEquals("1.2.4-sp1", result.get().getVersion());
+        assertFalse(((LazySemanticVersion)versions.get(1)).isResolved());
+        assertFalse(((LazySemanticVersion)versions.get(3)).isResolved());
+    }
+
+    @Test
+    void testConcurrentResolution() throws InterruptedException
+    {
+        LazySemanticVersion version = (LazySemanticVersion)LazySemanticVersion.of("1.2.3-rc1-jre8", RESOLVER);
+        SemanticVersion[] results = new SemanticVersion[8];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++)
+        {
+            int index = i;
+            threads[i] = new Thread(() -> results[index] = version.resolve());
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        for (SemanticVersion result : results)
+        {
+            assertEquals(RESOLVER.apply("1.2.3-rc1-jre8"), result);
+            assertEquals("rc1-jre8", result.getExtension());
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionAsyncTest
+{
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final List<String> corpus = new VersionCorpus(37).create(SemanticVersionMigration.PAGE_SIZE * 2 + 100);
+
+    @Test
+    void testSameAsSynchronous() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (UpdateStrategy strategy : new UpdateStrategy[] { UpdateStrategy.MAJOR, UpdateStrategy.MINOR,
+                            UpdateStrategy.PATCH, UpdateStrategy.DEV })
+            {
+                String expected = SemanticVersions.getNewestVersion(strategy, corpus, "1.2.0");
+                assertEquals(expected, SemanticVersions.getNewestVersionAsync(strategy, corpus, "1.2.0", executor)
+                                                       .get(TIMEOUT_SECONDS, TimeUnit.SECONDS), strategy.name());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCancelled()
+    {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger read = new AtomicInteger();
+        CompletableFuture<String> future = SemanticVersions.getNewestVersionAsync(UpdateStrategy.MAJOR,
+                        counting(corpus, read), "1.0", tasks::add);
+        future.cancel(false);
+        tasks.forEach(Runnable::run);
+        // the search is stopped before the first page
+        assertEquals(0, read.get());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void testDeadline() throws Exception
+    {
+        // the executor never runs the search
+        CompletableFuture<String> future = SemanticVersions.getNewestVersionAsync(UpdateStrategy.MAJOR, corpus, "1.0",
+                        task -> {}, Duration.ofMillis(20));
+        assertCause(TimeoutException.class, future);
+    }
+
+    @Test
+    void testRejected() throws Exception
+    {
+        CompletableFuture<String> future = SemanticVersions.getNewestVersionAsync(UpdateStrategy.MAJOR, corpus, "1.0",
+                        task -> {
+                            throw new RejectedExecutionException("shut down");
+                        });
+        assertCause(RejectedExecutionException.class, future);
+    }
+
+    @Test
+    void testError() throws Exception
+    {
+        Collection<String> broken = new AbstractCollection<String>()
+        {
+            @Override
+            public Iterator<String> iterator()
+            {
+                throw new AssertionError("broken collection");
+            }
+
+            @Override
+            public int size()
+            {
+                return 1;
+            }
+        };
+        // errors complete the future, too
+        assertCause(AssertionError.class,
+                        SemanticVersions.getNewestVersionAsync(UpdateStrategy.MAJOR, broken, "1.0", Runnable::run));
+    }
+
+    @Test
+    void testPages() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            SemanticVersionMigrationProcessor processor = SemanticVersionMigrationProcessor.of(UpdateStrategy.MINOR,
+                            "1.0", executor);
+            Collector collector = new Collector();
+            processor.subscribe(collector);
+            publish(processor);
+            String expected = SemanticVersions.getNewestVersion(UpdateStrategy.MINOR, corpus, "1.0");
+            assertEquals(expected, processor.getNewestVersion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(collector.completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            // best so far: each version is newer than the previous one
+            List<String> found = new ArrayList<>(collector.items);
+            assertEquals(expected, found.get(found.size() - 1));
+            for (int i = 1; i < found.size(); i++)
+            {
+                assertTrue(SemanticVersion.valueOf(found.get(i)).compareTo(SemanticVersion.valueOf(found.get(i - 1)))
+                                > 0, found.get(i));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPagesWithoutNewerVersion() throws Exception
+    {
+        SemanticVersionMigrationProcessor processor = SemanticVersionMigrationProcessor.of(UpdateStrategy.PATCH,
+                        "2.0", Runnable::run);
+        try (SubmissionPublisher<Collection<String>> pages = new SubmissionPublisher<>(Runnable::run, 4))
+        {
+            pages.subscribe(processor);
+            pages.submit(List.of("1.0", "2.0", "3.0"));
+            pages.submit(Collections.emptyList());
+        }
+        assertEquals("2.0", processor.getNewestVersion().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPagesCancelled() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SubmissionPublisher<Collection<String>> pages = new SubmissionPublisher<>())
+        {
+            SemanticVersionMigrationProcessor processor = SemanticVersionMigrationProcessor.of(UpdateStrategy.MAJOR,
+                            "1.0", executor);
+            Collector collector = new Collector();
+            processor.subscribe(collector);
+            pages.subscribe(processor);
+            pages.submit(List.of("1.1", "2.0"));
+            processor.getNewestVersion().cancel(false);
+            assertTrue(collector.completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(collector.error instanceof CancellationException, String.valueOf(collector.error));
+            // the subscription of the pages is cancelled
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while(pages.hasSubscribers() && System.nanoTime() < end)
+            {
+                Thread.sleep(10);
+            }
+            assertTrue(!pages.hasSubscribers());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits the corpus in pages and completes the pages, so the processor completes the newest version
+     */
+    private void publish(Flow.Subscriber<Collection<String>> subscriber)
+    {
+        try (SubmissionPublisher<Collection<String>> pages = new SubmissionPublisher<>())
+        {
+            pages.subscribe(subscriber);
+            for (int i = 0; i < corpus.size(); i += 1000)
+            {
+                pages.submit(corpus.subList(i, Math.min(corpus.size(), i + 1000)));
+            }
+        }
+    }
+
+    private static void assertCause(Class<? extends Throwable> expected, CompletableFuture<String> future)
+                    throws InterruptedException, TimeoutException
+    {
+        try
+        {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch(ExecutionException e)
+        {
+            assertTrue(expected.isInstance(e.getCause()), String.valueOf(e.getCause()));
+            return;
+        }
+        throw new AssertionError("future is completed without " + expected.getSimpleName());
+    }
+
+    /**
+     * @return collection, which counts the read elements
+     */
+    private static Collection<String> counting(List<String> versions, AtomicInteger read)
+    {
+        return new AbstractCollection<String>()
+        {
+            @Override
+            public Iterator<String> iterator()
+            {
+                Iterator<String> iterator = versions.iterator();
+                return new Iterator<String>()
+                {
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public String next()
+                    {
+                        read.incrementAndGet();
+                        return iterator.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return versions.size();
+            }
+        };
+    }
+
+    private static class Collector implements Flow.Subscriber<String>
+    {
+        private final Queue<String> items = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription)
+        {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String item)
+        {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable)
+        {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete()
+        {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionCliTest
+{
+    private static final String INPUT = "1.2.4\n1.3.0\n\n2.0.1\n 2.0.2-RC1 \n1.0-final\n1.0.0\n1.2.3\n";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    void testSort()
+    {
+        assertEquals(SemanticVersionCli.OK, run(INPUT, "sort"));
+        assertEquals("1.0-final\n1.0.0\n1.2.3\n1.2.4\n1.3.0\n2.0.1\n2.0.2-RC1\n", output());
+    }
+
+    @Test
+    void testDedupe()
+    {
+        assertEquals(SemanticVersionCli.OK, run("1.0\n1.0.0\n1-ga\n1.1\n1.0-final\n1.1.0-SNAPSHOT\n", "dedupe"));
+        assertEquals("1.0\n1.1\n1.1.0-SNAPSHOT\n", output());
+    }
+
+    @Test
+    void testNewest()
+    {
+        List<String> versions = Arrays.asList("1.2.4", "1.3.0", "2.0.1", "2.0.2-RC1");
+        for (UpdateStrategy strategy : Arrays.asList(UpdateStrategy.MAJOR, UpdateStrategy.MINOR, UpdateStrategy.PATCH,
+                        UpdateStrategy.DEV))
+        {
+            out.reset();
+            assertEquals(SemanticVersionCli.OK, run(String.join("\n", versions), "newest", "--current", "1.2.3",
+                            "--strategy", strategy.name().toLowerCase()));
+            assertEquals(SemanticVersions.getNewestVersion(strategy, versions, "1.2.3") + "\n", output());
+        }
+        out.reset();
+        assertEquals(SemanticVersionCli.NOT_FOUND, run(INPUT, "newest", "--current", "3.0", "--strategy", "MAJOR"));
+        assertEquals("", output());
+    }
+
+    @Test
+    void testNewestInChunks()
+    {
+        // more versions than a chunk, the newest version is in the first chunk
+        StringBuilder input = new StringBuilder("1.9.9\n1.9.9.0\n");
+        for (int i = 0; i < 40_000; i++)
+        {
+            input.append("1.").append(i % 9).append('.').append(i % 100).append('\n');
+        }
+        assertEquals(SemanticVersionCli.OK, run(input.toString(), "newest", "--current", "1.0.0", "--strategy", "MINOR"));
+        assertEquals("1.9.9\n", output());
+    }
+
+    @Test
+    void testNext()
+    {
+        assertEquals(SemanticVersionCli.OK, run(INPUT, "next-release", "--strategy", "MINOR"));
+        assertEquals("2.0.2\n", output());
+        out.reset();
+        assertEquals(SemanticVersionCli.OK, run("1.2.3\n1.3.0\n", "next-release", "--strategy", "MINOR"));
+        assertEquals("1.4.0\n", output());
+        out.reset();
+        assertEquals(SemanticVersionCli.OK, run("1.2.3\n1.3.0\n", "next-pre-release"));
+        assertEquals(new SemanticVersionIncrementor().incrementForPreRelease(Arrays.asList("1.2.3", "1.3.0"),
+                        UpdateStrategy.PATCH) + "\n", output());
+        out.reset();
+        assertEquals(SemanticVersionCli.OK, run("", "next-release"));
+        assertEquals("1.0.0\n", output());
+    }
+
+    @Test
+    void testFiles() throws IOException
+    {
+        Path file = Files.createTempFile("versions", ".txt");
+        try
+        {
+            Files.write(file, Arrays.asList("2.0", "1.0"));
+            assertEquals(SemanticVersionCli.OK, run("1.5\n", "sort", file.toString(), "-"));
+            assertEquals("1.0\n1.5\n2.0\n", output());
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testErrors()
+    {
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "unknown"));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "newest"));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "newest", "--current"));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "next-release", "--strategy", "unknown"));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "sort", "--unknown"));
+        assertEquals(SemanticVersionCli.ERROR, run(INPUT, "sort", "does-not-exist.txt"));
+        assertTrue(new String(err.toByteArray(), StandardCharsets.UTF_8).contains("usage:"));
+    }
+
+    private int run(String input, String... args)
+    {
+        return SemanticVersionCli.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out,
+                        new PrintStream(err, true));
+    }
+
+    private String output()
+    {
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Measures the column filter over more than a million versions. The benchmark is not part of the build, it's executed
+ * by the task "benchmark".
+ */
+@Tag("benchmark")
+class SemanticVersionColumnsBenchmark
+{
+    private static final int SIZE = 1 << 21;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void benchmarkMatch(TestReporter reporter)
+    {
+        List<SemanticVersion> versions = new ArrayList<>(SIZE);
+        for (String version : new VersionCorpus(47).create(SIZE))
+        {
+            versions.add(SemanticVersion.valueOf(version));
+        }
+        SemanticVersionColumns columns = SemanticVersionColumns.of(versions);
+        reporter.publishEntry("versions", Integer.toString(SIZE));
+        reporter.publishEntry("ns/version", format(measure(columns)));
+    }
+
+    /**
+     * @return nanoseconds per version of the patch and the minor filter
+     */
+    private static double measure(SemanticVersionColumns columns)
+    {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP; i++)
+        {
+            checksum += run(columns);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            checksum += run(columns);
+        }
+        long nanos = System.nanoTime() - start;
+        // the result is used, so the filter is not removed by the JIT
+        assertTrue(checksum > 0);
+        return (double)nanos / ITERATIONS / 2 / columns.size();
+    }
+
+    private static long run(SemanticVersionColumns columns)
+    {
+        // the result array is reused, so it's read before the next match
+        int[] patch = columns.match(1, 2, false);
+        long result = patch[patch.length - 1] == 0 ? 1 : 2;
+        int[] minor = columns.match(1, SemanticVersionColumns.ANY, false);
+        return result + (minor[minor.length / 2] == 0 ? 1 : 2);
+    }
+
+    private static String format(double value)
+    {
+        return String.format(Locale.US, "%.3f", value);
+    }
+}
@@ -0,0 +1,53 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionColumnsTest
+{
+    private static final List<SemanticVersion> VERSIONS = Arrays.asList("1.2.3", "1.2.4", "1.3.0", "1.3.1-rc1",
+                    "2.0.0", "2.1.0-SNAPSHOT")
+                                                               .stream()
+                                                               .map(SemanticVersion::valueOf)
+                                                               .collect(Collectors.toList());
+
+    private final SemanticVersionColumns underTest = SemanticVersionColumns.of(VERSIONS);
+
+    @Test
+    void testMatch()
+    {
+        assertEquals(6, underTest.size());
+        assertEquals(Arrays.asList(true, true, false, false, false, false),
+                        toList(underTest.match(1, 2, true)), "patch filter");
+        assertEquals(Arrays.asList(true, true, true, false, false, false),
+                        toList(underTest.match(1, SemanticVersionColumns.ANY, true)), "minor filter");
+        assertEquals(Arrays.asList(true, true, true, true, false, false),
+                        toList(underTest.match(1, SemanticVersionColumns.ANY, false)), "minor filter incl. dev");
+        assertEquals(Arrays.asList(true, true, true, false, true, false),
+                        toList(underTest.match(SemanticVersionColumns.ANY, SemanticVersionColumns.ANY, true)),
+                        "major filter");
+    }
+
+    @Test
+    void testMax()
+    {
+        assertEquals("1.2.4", underTest.max(1, 2, true, VersionComparators.VERSION_COMPARATOR).get().getVersion());
+        assertEquals("1.3.1-rc1", underTest.max(1, SemanticVersionColumns.ANY, false,
+                        VersionComparators.VERSION_COMPARATOR).get().getVersion());
+        assertEquals("2.1.0-SNAPSHOT", underTest.max(SemanticVersionColumns.ANY, SemanticVersionColumns.ANY, false,
+                        VersionComparators.VERSION_COMPARATOR).get().getVersion());
+        assertFalse(underTest.max(3, SemanticVersionColumns.ANY, false, VersionComparators.VERSION_COMPARATOR)
+                             .isPresent());
+    }
+
+    private static List<Boolean> toList(int[] match)
+    {
+        return Arrays.stream(match).mapToObj(m -> m == 0).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionExternalSorterTest
+{
+    @Test
+    void testInMemory() throws IOException
+    {
+        List<String> versions = Arrays.asList("2.0", "1.0.0", "1.0-final", "1.0-rc1", "1.1");
+        try (SemanticVersionExternalSorter sorter = new SemanticVersionExternalSorter())
+        {
+            assertEquals(SemanticVersions.sortStrings(versions), sort(sorter, versions));
+            assertEquals(0, sorter.getRunCount());
+        }
+    }
+
+    @Test
+    void testRuns() throws IOException
+    {
+        List<String> versions = new VersionCorpus(37, true).create(80_000);
+        versions.add("1.0-äöü");
+        Path directory = Files.createTempDirectory("external-sort");
+        try
+        {
+            // small budget, so many runs are written and merged in multiple passes
+            try (SemanticVersionExternalSorter sorter = new SemanticVersionExternalSorter(directory, 100_000, 3))
+            {
+                assertEquals(SemanticVersions.sortStrings(versions), sort(sorter, versions));
+                assertTrue(sorter.getRunCount() > 64, () -> "runs " + sorter.getRunCount());
+                assertThrows(IllegalStateException.class, () -> sorter.add("1.0"));
+            }
+            try (Stream<Path> files = Files.list(directory))
+            {
+                assertFalse(files.findAny().isPresent());
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void testInvalidArguments()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SemanticVersionExternalSorter(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SemanticVersionExternalSorter(null, 1, 0));
+    }
+
+    private static List<String> sort(SemanticVersionExternalSorter sorter, List<String> versions) throws IOException
+    {
+        for (String version : versions)
+        {
+            sorter.add(version);
+        }
+        List<String> result = new ArrayList<>();
+        sorter.writeTo(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionFormatTest
+{
+    private static final List<String> VERSIONS = Arrays.asList("1", "1.2.3", "1.2.3.4.5", "1.0-final", "2.0.0-rc1",
+                    "1.0.0-alpha-1-jre8", "4.5.6-RC1-jre8", "9.4.0.v20161208", "1.0.0-SNAPSHOT",
+                    "1.0-beta.1.2-sp3", "1.0-123456789012345678901234567890", "1.0.0-jre8-jre11");
+
+    @Test
+    void testAppendTo()
+    {
+        StringBuilder buffer = new StringBuilder("prefix:");
+        for (String string : VERSIONS)
+        {
+            SemanticVersion version = SemanticVersion.valueOf(string);
+            buffer.setLength(7);
+            assertEquals("prefix:" + version.toString(), version.appendTo(buffer).toString(), string);
+        }
+    }
+
+    @Test
+    void testFormatTo() throws IOException
+    {
+        StringWriter writer = new StringWriter();
+        StringBuilder expected = new StringBuilder();
+        for (String string : VERSIONS)
+        {
+            SemanticVersion version = SemanticVersion.valueOf(string);
+            version.formatTo(writer);
+            writer.append('\n');
+            expected.append(version).append('\n');
+        }
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test
+    void testFormatToWriterAndAppendable() throws IOException
+    {
+        // a long version grows the per thread buffers
+        String string = "1.0-" + String.join("-", Collections.nCopies(300, "jre8"));
+        for (String other : Arrays.asList(string, "1.2.3-rc1", string))
+        {
+            SemanticVersion version = SemanticVersion.valueOf(other);
+            StringWriter writer = new StringWriter();
+            StringBuffer buffer = new StringBuffer();
+            version.formatTo(writer);
+            version.formatTo(buffer);
+            assertEquals(version.toString(), writer.toString());
+            assertEquals(version.toString(), buffer.toString());
+        }
+    }
+
+    @Test
+    void testLazyVersion() throws IOException
+    {
+        SemanticVersion version = LazySemanticVersion.of("1.2.3-rc2", new SemanticVersionResolverImpl());
+        StringBuilder buffer = new StringBuilder();
+        version.formatTo(buffer);
+        assertEquals("1.2.3-rc2", buffer.toString());
+    }
+
+    @Test
+    void testRenderedParts()
+    {
+        SemanticVersion version = SemanticVersion.valueOf("1.2.3.4-rc1-jre8-jre11");
+        assertEquals("1.2.3.4", version.getVersionWithoutBuildExtension());
+        assertEquals("rc1-jre8-jre11", version.getExtension());
+        assertEquals(Optional.of("-jre8--jre11"), version.getPlatformExtension());
+        assertEquals(Optional.empty(), SemanticVersion.valueOf("1.2.3-rc1").getPlatformExtension());
+        assertEquals("", SemanticVersion.valueOf("1.2.3").getExtension());
+    }
+}
@@ -0,0 +1,53 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionInternerTest
+{
+    private final SemanticVersionInterner underTest = new SemanticVersionInterner();
+
+    @Test
+    void testSharedInstances()
+    {
+        SemanticVersion version = underTest.intern("1.0.0-rc1");
+        assertSame(version, underTest.intern(new String("1.0.0-rc1")));
+        // same semantic meaning, but the version string is different
+        assertNotSame(version, underTest.intern("1.0-rc1"));
+        assertEquals(1, underTest.getVersionHits());
+        assertEquals(2, underTest.getVersionMisses());
+        assertEquals(2, underTest.size());
+    }
+
+    @Test
+    void testSharedExtensions()
+    {
+        SemanticVersionImpl version1 = (SemanticVersionImpl)underTest.intern("1.0.0-rc1-jre11");
+        SemanticVersionImpl version2 = (SemanticVersionImpl)underTest.intern("2.3-RC1-jre11");
+        assertSame(version1.getExtensions().get(0), version2.getExtensions().get(0));
+        assertSame(version1.getExtensions().get(1), version2.getExtensions().get(1));
+        assertEquals("1.0.0-rc1-jre11", version1.getVersion());
+        assertEquals("2.3-rc1-jre11", version2.toString());
+        assertEquals(2, underTest.getExtensionHits());
+        assertEquals(2, underTest.getExtensionMisses());
+    }
+
+    @Test
+    void testUnusedVersionsAreCollected() throws InterruptedException
+    {
+        for (int i = 0; i < 1_000; i++)
+        {
+            underTest.intern("1.0." + i);
+        }
+        for (int i = 0; i < 50 && underTest.size() > 0; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(underTest.size() < 1_000, "unused versions are removed");
+    }
+}
@@ -0,0 +1,38 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionMetricsRecorderTest
+{
+    @Test
+    void testNotRegistered()
+    {
+        // the recorder is only registered for the metrics tests
+        assertFalse(VersionMetrics.ENABLED);
+    }
+
+    @Test
+    void testNoOpDefaults()
+    {
+        SemanticVersionMetrics noOp = new SemanticVersionMetrics()
+        {
+        };
+        noOp.parsed(1);
+        noOp.cacheAccessed("versions", true);
+        noOp.sorted(1, 1);
+        noOp.migrationScanned(UpdateStrategy.MAJOR, 1, 1);
+        noOp.errorPath("test");
+        SemanticVersionMetricsRecorder recorder = new SemanticVersionMetricsRecorder();
+        recorder.parsed(0);
+        recorder.parsed(3);
+        recorder.parsed(Long.MAX_VALUE);
+        long[] histogram = recorder.getParseLatencyHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[2]);
+        assertEquals(1, histogram[63]);
+        assertEquals(3, recorder.getParseCount());
+    }
+}
@@ -0,0 +1,63 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionParseTest
+{
+    @Test
+    void testValid()
+    {
+        for (String version : Arrays.asList("1", "1.2.3", "1.0-rc1", "v1.2.3", "9.4.0.v20161208",
+                        "1.0.0-123456789012345678901234567890", "2.0.0+build.20230101", "1.0-SNAPSHOT"))
+        {
+            SemanticVersionParseResult result = SemanticVersion.tryParse(version);
+            assertTrue(result.isValid(), result.toString());
+            assertEquals(-1, result.getErrorPosition());
+            assertEquals(SemanticVersion.valueOf(version), result.getVersion().get());
+            assertEquals(version, result.getVersion().get().getVersion());
+        }
+    }
+
+    @Test
+    void testInvalid()
+    {
+        assertInvalid(null, 0);
+        assertInvalid("", 0);
+        assertInvalid("1..2", 2);
+        assertInvalid(".1", 0);
+        assertInvalid("1.2-", 3);
+        assertInvalid("1.2--rc1", 4);
+        assertInvalid("1.2 rc1", 3);
+        assertInvalid("1.2\n", 3);
+        assertInvalid("SNAPSHOT", 0);
+        assertInvalid("rc-final", 0);
+    }
+
+    @Test
+    void testLargeNumbers()
+    {
+        SemanticVersionResolverImpl resolver = new SemanticVersionResolverImpl();
+        SemanticVersionImpl version = (SemanticVersionImpl)resolver.apply("1.00009999.0123456789012.99999999999999999999-20201212");
+        assertEquals(Arrays.asList(1, 9999), version.getNumbers());
+        assertEquals("123456789012.99999999999999999999.20201212", version.getExtension());
+        assertEquals(Collections.singletonList(""), resolver.splitVersion(""));
+        assertEquals(Collections.emptyList(), resolver.splitVersion("."));
+        assertEquals(Arrays.asList("", "1", "", "2"), resolver.splitVersion(".1..2.."));
+    }
+
+    private static void assertInvalid(String version, int position)
+    {
+        SemanticVersionParseResult result = SemanticVersion.tryParse(version);
+        assertFalse(result.isValid(), String.valueOf(version));
+        assertFalse(result.getVersion().isPresent());
+        assertTrue(result.getErrorMessage().isPresent());
+        assertEquals(position, result.getErrorPosition(), String.valueOf(version));
+    }
+}
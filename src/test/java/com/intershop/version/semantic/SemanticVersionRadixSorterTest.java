@@ -0,0 +1,38 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionRadixSorterTest
+{
+    private final SemanticVersionRadixSorter underTest = new SemanticVersionRadixSorter();
+
+    @Test
+    void testSortStrings()
+    {
+        assertEquals(Arrays.asList("1.0-alpha1", "1.0-alpha2", "1.0-beta1", "1.0-rc1", "1.0-ga", "1", "1.0.0.0",
+                        "1.0-sp1", "1.0.1", "1.0.1.1", "1.0.1.1.1"),
+                        underTest.sortStrings(Arrays.asList("1.0.1.1.1", "1.0-ga", "1.0-sp1", "1.0.1.1", "1.0.1",
+                                        "1", "1.0-rc1", "1.0-beta1", "1.0-alpha2", "1.0.0.0", "1.0-alpha1")));
+        assertEquals(Collections.emptyList(), underTest.sortStrings(Collections.emptyList()));
+    }
+
+    @Test
+    void testSameOrderAsComparator()
+    {
+        // scratch buffers are reused for each run
+        for (int run = 0; run < 3; run++)
+        {
+            List<String> versions = new VersionCorpus(run, true).create(5_000 + run * 1_000);
+            List<String> expected = new ArrayList<>(versions);
+            expected.sort(VersionComparators.STRING_COMPARATOR);
+            assertEquals(expected, underTest.sortStrings(versions), "run " + run);
+        }
+    }
+}
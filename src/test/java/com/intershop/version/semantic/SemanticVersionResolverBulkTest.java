@@ -0,0 +1,120 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+class SemanticVersionResolverBulkTest
+{
+    private final SemanticVersionResolver resolver = new SemanticVersionResolverImpl();
+
+    @Test
+    void testAligned()
+    {
+        List<String> versions = Arrays.asList("1.2.3", "1.0-final", "2.0.0-rc1", "1.2.3", "1.0.0", "1.0-final");
+        SemanticVersion[] resolved = resolver.resolveAll(versions);
+        assertEquals(versions.size(), resolved.length);
+        for (int i = 0; i < resolved.length; i++)
+        {
+            assertEquals(versions.get(i), resolved[i].getVersion());
+        }
+        // equal strings share the version, versions with same semantic meaning not
+        assertSame(resolved[0], resolved[3]);
+        assertSame(resolved[1], resolved[5]);
+        assertEquals(resolved[1], resolved[4]);
+        assertEquals("1.0.0", resolved[4].getVersion());
+    }
+
+    @Test
+    void testEmpty()
+    {
+        assertEquals(0, resolver.resolveAll(Arrays.<String> asList()).length);
+    }
+
+    @Test
+    void testParallel()
+    {
+        // duplicates are included, but more than the threshold are distinct
+        List<String> versions = new VersionCorpus(17).create(SemanticVersionResolver.PARALLEL_THRESHOLD * 3);
+        SemanticVersion[] resolved = resolver.resolveAll(versions);
+        assertEquals(versions.size(), resolved.length);
+        for (int i = 0; i < resolved.length; i++)
+        {
+            assertSameVersion(resolver.apply(versions.get(i)), resolved[i]);
+        }
+        assertTrue(versions.stream().distinct().count() >= SemanticVersionResolver.PARALLEL_THRESHOLD);
+    }
+
+    @Test
+    void testStream()
+    {
+        List<String> versions = new VersionCorpus(19).create(5_000);
+        List<SemanticVersion> sequential = resolver.resolveAll(versions.stream()).collect(Collectors.toList());
+        List<SemanticVersion> parallel = resolver.resolveAll(versions.parallelStream()).collect(Collectors.toList());
+        assertEquals(versions.size(), sequential.size());
+        assertEquals(versions.size(), parallel.size());
+        for (int i = 0; i < versions.size(); i++)
+        {
+            assertSameVersion(resolver.apply(versions.get(i)), sequential.get(i));
+            assertSameVersion(resolver.apply(versions.get(i)), parallel.get(i));
+        }
+    }
+
+    @Test
+    void testSpliterator()
+    {
+        List<String> versions = Arrays.asList("1.2.3", "1.2.3", "1.2.3-SNAPSHOT", "1.2.3");
+        Spliterator<SemanticVersion> spliterator = resolver.resolveAll(versions.spliterator());
+        List<SemanticVersion> resolved = StreamSupport.stream(spliterator, false).collect(Collectors.toList());
+        assertEquals(versions, resolved.stream().map(SemanticVersion::getVersion).collect(Collectors.toList()));
+        // only consecutive equal strings share the version
+        assertSame(resolved.get(0), resolved.get(1));
+        assertNotSame(resolved.get(0), resolved.get(3));
+    }
+
+    @Test
+    void testSpliteratorSplit()
+    {
+        List<String> versions = new VersionCorpus(23).create(SemanticVersionResolver.PARALLEL_THRESHOLD * 2);
+        Spliterator<SemanticVersion> suffix = resolver.resolveAll(versions.spliterator());
+        Spliterator<SemanticVersion> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(versions.size(), prefix.estimateSize() + suffix.estimateSize());
+        List<SemanticVersion> resolved = StreamSupport.stream(prefix, false).collect(Collectors.toList());
+        suffix.forEachRemaining(resolved::add);
+        for (int i = 0; i < versions.size(); i++)
+        {
+            assertSameVersion(resolver.apply(versions.get(i)), resolved.get(i));
+        }
+        // small parts are not split
+        assertNull(resolver.resolveAll(versions.subList(0, 10).spliterator()).trySplit());
+    }
+
+    @Test
+    void testIncrementorUsesNewest()
+    {
+        SemanticVersionIncrementor incrementor = new SemanticVersionIncrementor();
+        assertEquals("1.3.1", incrementor.incrementForRelease(Arrays.asList("1.2.3", "1.3.0", "1.3.0-rc1", "1.3"),
+                        UpdateStrategy.PATCH));
+    }
+
+    private static void assertSameVersion(SemanticVersion expected, SemanticVersion version)
+    {
+        String message = expected.getVersion();
+        assertEquals(expected.getVersion(), version.getVersion(), message);
+        assertEquals(((SemanticVersionImpl)expected).getNumbers(), ((SemanticVersionImpl)version).getNumbers(), message);
+        assertEquals(expected.getExtension(), version.getExtension(), message);
+        assertEquals(expected.getReleaseType(), version.getReleaseType(), message);
+    }
+}
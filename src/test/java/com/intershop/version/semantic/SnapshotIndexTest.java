@@ -0,0 +1,160 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SnapshotIndexTest
+{
+    @Test
+    void testRecognized()
+    {
+        for (String version : Arrays.asList("1.2.0-20240101.120102-17", "1-20240229.000000-1",
+                        "1.0-20241231.235959-999999999", "1.2.0-20240101.120102-17-jre8"))
+        {
+            assertTrue(TimestampedSnapshot.find(version) > 0, version);
+        }
+        for (String version : Arrays.asList("1.2.0-20240101.120102", "-20240101.120102-17", "1.0-20230229.000000-1",
+                        "1.0-20241301.120102-1", "1.0-20240101.240000-1", "1.0-2024010.120102-1",
+                        "1.0-20240101.120102-", "1.0-20240101.120102-1234567890", "1.0-20240101-120102-1",
+                        "1.2.0-beta-20240101.120102-1", "1.0-SNAPSHOT-20240101.120102-1", "1.0.-20240101.120102-1",
+                        "1.0-20240101.120102-1-"))
+        {
+            assertEquals(TimestampedSnapshot.NOT_FOUND, TimestampedSnapshot.find(version), version);
+        }
+    }
+
+    @Test
+    void testResolved()
+    {
+        SemanticVersion version = SemanticVersion.valueOf("1.2.0-20240101.120102-17");
+        assertEquals(ExtensionType.DEV, version.getReleaseType());
+        // rendered like the input, the numbers are not written as "snapshot"
+        assertEquals("20240101.120102.17", version.getExtension());
+        assertEquals("1.2.0-20240101.120102.17", version.toString());
+        assertEquals(1, version.getMajor());
+        assertEquals(2, version.getMinor());
+        assertFalse(version.isRecommendedForProduction());
+
+        List<String> expected = Arrays.asList("1.1.0", "1.2.0-SNAPSHOT", "1.2.0-20231231.235959-20",
+                        "1.2.0-20240101.120102-2", "1.2.0-20240101.120102-17", "1.2.0-20240101.120103-1",
+                        "1.2.0-rc1", "1.2.0", "1.2.1-20200101.000000-1");
+        List<String> shuffled = new ArrayList<>(expected);
+        Collections.shuffle(shuffled, new Random(7));
+        assertEquals(expected, SemanticVersions.sortStrings(shuffled));
+    }
+
+    @Test
+    void testResolvedQualifiedBase()
+    {
+        // a base with a qualifier is not a timestamped snapshot, the version is resolved like other versions
+        SemanticVersion version = SemanticVersion.valueOf("1.0-SNAPSHOT-20240101.120102-1");
+        assertEquals("1.0-snapshot20240101.120102.1", version.toString());
+        assertEquals("1.0-snapshot20240101.120102.2", version.incrementLastIncrement().toString());
+        assertTrue(version.incrementLastIncrement().compareTo(version) > 0);
+    }
+
+    @Test
+    void testResolvedSuffix()
+    {
+        SemanticVersion version = SemanticVersion.valueOf("1.2.0-20240101.120102-17-jre8");
+        assertEquals(ExtensionType.DEV, version.getReleaseType());
+        assertEquals("1.2.0-20240101.120102.17-jre8", version.toString());
+        assertEquals(Optional.of("-jre8"), version.getPlatformExtension());
+        assertTrue(version.compareTo(SemanticVersion.valueOf("1.2.0-20240101.120102-16-jre8")) > 0);
+        assertTrue(version.compareTo(SemanticVersion.valueOf("1.2.0-jre8")) < 0);
+        assertEquals("1.2.0-SNAPSHOT-jre8", TimestampedSnapshot.getSnapshotVersion(version.getVersion(),
+                        TimestampedSnapshot.find(version.getVersion())));
+    }
+
+    @Test
+    void testIncrementLastIncrement()
+    {
+        // the next build is newer than the build and than the snapshot version
+        for (String build : Arrays.asList("1.2.0-20240101.120102-17", "1.2.0-20240101.120102-17-jre8"))
+        {
+            SemanticVersion version = SemanticVersion.valueOf(build);
+            SemanticVersion incremented = version.incrementLastIncrement();
+            assertEquals(build.replace("-17", "-18"), incremented.getVersion());
+            assertTrue(incremented.compareTo(version) > 0, build);
+        }
+        assertTrue(SemanticVersion.valueOf("1.2.0-20240101.120102-17").incrementLastIncrement()
+                                  .compareTo(SemanticVersion.valueOf("1.2.0-SNAPSHOT").incrementLastIncrement()) > 0);
+        List<String> tags = Arrays.asList("1.1.0", "1.2.0-20240101.120102-17");
+        assertEquals("1.2.0-20240101.120102.18",
+                        new SemanticVersionIncrementor().incrementForPreRelease(tags, UpdateStrategy.PATCH));
+    }
+
+    @Test
+    void testSamePaths()
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        StrictSemanticVersionResolver strict = new StrictSemanticVersionResolver();
+        for (String version : Arrays.asList("1.2.0-20240101.120102-17", "3-20240101.000000-0",
+                        "1.2.3.4.5-20240101.120102-1"))
+        {
+            SemanticVersionImpl resolved = (SemanticVersionImpl)SemanticVersion.valueOf(version);
+            assertTrue(scanner.scan(version), version);
+            assertEquals(VersionSortKey.of(resolved), scanner.getKey(), version);
+            assertEquals(VersionSortKey.rank(resolved), scanner.getRank(), version);
+            assertEquals(ExtensionType.DEV, scanner.getReleaseType(), version);
+            SemanticVersion strictVersion = strict.apply(version);
+            assertEquals(resolved.toString(), strictVersion.toString(), version);
+            assertEquals(0, resolved.compareTo(strictVersion), version);
+        }
+    }
+
+    @Test
+    void testIndex()
+    {
+        SnapshotIndex index = new SnapshotIndex();
+        assertEquals(4, index.addAll(Arrays.asList("1.2.0-20240101.120102-2", "1.2.0-20240103.080000-4",
+                        "1.2.0-20240102.120102-3", "1.2.0", "1.2.0-SNAPSHOT", "2.0-20240101.000000-1")));
+        assertFalse(index.add("1.2.0-20240102.120102-3"));
+        assertEquals(Optional.of("1.2.0-20240103.080000-4"), index.getNewestBuild("1.2.0-SNAPSHOT"));
+        assertEquals(Optional.of("2.0-20240101.000000-1"), index.getNewestBuild("2.0-SNAPSHOT"));
+        assertEquals(Optional.empty(), index.getNewestBuild("3.0-SNAPSHOT"));
+        assertEquals(Arrays.asList("1.2.0-20240101.120102-2", "1.2.0-20240102.120102-3", "1.2.0-20240103.080000-4"),
+                        index.getBuilds("1.2.0-SNAPSHOT"));
+        assertEquals(Arrays.asList("1.2.0-SNAPSHOT", "2.0-SNAPSHOT"), new ArrayList<>(index.getSnapshotVersions()));
+
+        // the newest build of 2.0 is kept
+        assertEquals(1, index.prune(Instant.parse("2024-01-02T12:01:02Z")));
+        assertEquals(Arrays.asList("1.2.0-20240102.120102-3", "1.2.0-20240103.080000-4"),
+                        index.getBuilds("1.2.0-SNAPSHOT"));
+        assertEquals(3, index.size());
+        assertEquals(1, index.prune(Instant.parse("2030-01-01T00:00:00Z")));
+        assertEquals(Optional.of("1.2.0-20240103.080000-4"), index.getNewestBuild("1.2.0-SNAPSHOT"));
+    }
+
+    @Test
+    void testIndexSameOrderAsResolver()
+    {
+        Random random = new Random(11);
+        List<String> versions = new ArrayList<>();
+        SnapshotIndex index = new SnapshotIndex();
+        for (int i = 0; i < 2_000; i++)
+        {
+            String version = String.format("1.0-2024%02d%02d.%02d%02d%02d-%d", 1 + random.nextInt(12),
+                            1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                            1 + random.nextInt(50));
+            if (index.add(version))
+            {
+                versions.add(version);
+            }
+        }
+        assertEquals(SemanticVersions.sortStrings(versions), index.getBuilds("1.0-SNAPSHOT"));
+        assertEquals(SemanticVersions.sortStrings(versions).get(versions.size() - 1),
+                        index.getNewestBuild("1.0-SNAPSHOT").get());
+    }
+}
@@ -0,0 +1,76 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StrictSemanticVersionResolverTest
+{
+    private static final List<String> STRICT = Arrays.asList("0.0.0", "1.2.3", "10.20.30", "1.2.3-rc.1",
+                    "1.0.0-alpha-1", "1.0.0-SNAPSHOT", "1.0.0-0.3.7", "1.0.0-x.7.z.92", "1.0.0+20130313144700",
+                    "1.0.0-beta+exp.sha.5114f85", "1.0.0+21AF26D3----117B344092BD", "1.0.0--a", "1.0.0-a-.b", "1.0.0-Alpha1.RC",
+                    "1.0.0+5", "1.0.0+a-", "1.0.0+a-b-", "1.0.0-0.0+0");
+    // strict versions, which are resolved by the heuristic resolver, because large numbers are no version numbers
+    private static final List<String> LARGE_NUMBERS = Arrays.asList("12345.0.0", "1.2.123456", "1.20240101.0-rc.1");
+    private static final List<String> NOT_STRICT = Arrays.asList("", "1", "1.2", "1.2.3.4", "01.2.3", "1.2.3-01",
+                    "1.2.3-", "1.2.3+", "1.2.3-rc..1", "1.2.3-rc_1", "v1.2.3", "1.2.3rc1", "9.4.0.v20161208",
+                    "1.0-final");
+
+    @Test
+    void testStrict()
+    {
+        STRICT.forEach(v -> assertTrue(StrictSemanticVersionResolver.isStrict(v), v));
+        LARGE_NUMBERS.forEach(v -> assertTrue(StrictSemanticVersionResolver.isStrict(v), v));
+        NOT_STRICT.forEach(v -> assertFalse(StrictSemanticVersionResolver.isStrict(v), v));
+    }
+
+    @Test
+    void testSameAsHeuristicResolver()
+    {
+        StrictSemanticVersionResolver resolver = new StrictSemanticVersionResolver();
+        SemanticVersionResolverImpl heuristic = new SemanticVersionResolverImpl();
+        for (String version : STRICT)
+        {
+            assertSameVersion(heuristic.apply(version), resolver.apply(version));
+        }
+        for (String version : NOT_STRICT)
+        {
+            assertSameVersion(heuristic.apply(version), resolver.apply(version));
+        }
+        for (String version : LARGE_NUMBERS)
+        {
+            assertSameVersion(heuristic.apply(version), resolver.apply(version));
+        }
+        assertEquals(STRICT.size(), resolver.getStrictCount());
+        assertEquals(NOT_STRICT.size() + LARGE_NUMBERS.size(), resolver.getHeuristicCount());
+    }
+
+    @Test
+    void testCorpus()
+    {
+        StrictSemanticVersionResolver resolver = new StrictSemanticVersionResolver();
+        SemanticVersionResolverImpl heuristic = new SemanticVersionResolverImpl();
+        for (String version : new VersionCorpus(13).create(3_000))
+        {
+            assertSameVersion(heuristic.apply(version), resolver.apply(version));
+        }
+        assertTrue(resolver.getStrictCount() > 0);
+        assertTrue(resolver.getHeuristicCount() > 0);
+    }
+
+    private static void assertSameVersion(SemanticVersion expected, SemanticVersion version)
+    {
+        String message = expected.getVersion();
+        assertEquals(expected.getVersion(), version.getVersion(), message);
+        assertEquals(((SemanticVersionImpl)expected).getNumbers(), ((SemanticVersionImpl)version).getNumbers(), message);
+        assertEquals(expected.getExtension(), version.getExtension(), message);
+        assertEquals(expected.getReleaseType(), version.getReleaseType(), message);
+        assertEquals(expected, version, message);
+        assertEquals(0, expected.compareTo(version), message);
+    }
+}
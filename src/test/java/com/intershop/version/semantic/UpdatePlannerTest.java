@@ -0,0 +1,120 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class UpdatePlannerTest
+{
+    private static final List<String> VERSIONS = Arrays.asList("1.0.0", "1.0.1", "1.1.0", "1.1.1-rc1", "2.0.0",
+                    "2.1.0-SNAPSHOT");
+
+    @Test
+    void testPolicies()
+    {
+        Map<String, UpdateStrategy> policies = new HashMap<>();
+        policies.put("com.example:pinned", UpdateStrategy.STICK);
+        policies.put("com.example:*", UpdateStrategy.PATCH);
+        policies.put("com.example.tools:*", UpdateStrategy.MAJOR);
+        policies.put("com.example:lib-?", UpdateStrategy.MINOR);
+        UpdatePlanner planner = new UpdatePlanner(policies, UpdateStrategy.MINOR);
+        assertEquals(UpdateStrategy.STICK, planner.getStrategy("com.example:pinned"));
+        assertEquals(UpdateStrategy.PATCH, planner.getStrategy("com.example:core"));
+        // the longer pattern is more specific
+        assertEquals(UpdateStrategy.MINOR, planner.getStrategy("com.example:lib-a"));
+        assertEquals(UpdateStrategy.PATCH, planner.getStrategy("com.example:lib-ab"));
+        assertEquals(UpdateStrategy.MAJOR, planner.getStrategy("com.example.tools:plugin"));
+        assertEquals(UpdateStrategy.MINOR, planner.getStrategy("org.example:core"));
+        // glob characters only, regular expression characters are quoted
+        assertEquals(UpdateStrategy.MINOR, planner.getStrategy("comXexample:core"));
+    }
+
+    @Test
+    void testPlan()
+    {
+        Map<String, UpdateStrategy> policies = new HashMap<>();
+        policies.put("pinned", UpdateStrategy.STICK);
+        policies.put("patch-*", UpdateStrategy.PATCH);
+        policies.put("dev", UpdateStrategy.DEV);
+        UpdatePlanner planner = new UpdatePlanner(policies, UpdateStrategy.MAJOR);
+        Map<String, String> dependencies = new LinkedHashMap<>();
+        dependencies.put("pinned", "1.0.0");
+        dependencies.put("patch-lib", "1.0.0");
+        dependencies.put("patch-latest", "1.1.0");
+        dependencies.put("tool", "1.0.0");
+        dependencies.put("unknown", "1.0.0");
+        dependencies.put("invalid", "1..0");
+        dependencies.put("dev", "2.0.0");
+        dependencies.put("failing", "1.0.0");
+        UpdatePlan plan = planner.plan(dependencies, artifact -> {
+            if ("failing".equals(artifact))
+            {
+                throw new IllegalStateException("repository not available");
+            }
+            return "unknown".equals(artifact) ? null : VERSIONS;
+        });
+
+        assertEquals(dependencies.keySet().stream().sorted().collect(Collectors.toList()),
+                        plan.getEntries().stream().map(UpdatePlan.Entry::getArtifact).collect(Collectors.toList()));
+        assertEntry(plan, "pinned", UpdatePlan.Reason.PINNED, null);
+        assertEntry(plan, "patch-lib", UpdatePlan.Reason.UPDATE, "1.0.1");
+        assertEntry(plan, "patch-latest", UpdatePlan.Reason.UP_TO_DATE, null);
+        assertEntry(plan, "tool", UpdatePlan.Reason.UPDATE, "2.0.0");
+        assertEntry(plan, "unknown", UpdatePlan.Reason.NO_VERSIONS, null);
+        assertEntry(plan, "invalid", UpdatePlan.Reason.INVALID_VERSION, null);
+        // DEV finds the snapshot of the next minor version, but the step is limited to the same patch version
+        assertEntry(plan, "dev", UpdatePlan.Reason.NOT_REACHABLE, "2.1.0-SNAPSHOT");
+        assertEntry(plan, "failing", UpdatePlan.Reason.FAILED, null);
+        assertEquals(Optional.of("repository not available"), plan.getEntry("failing").get().getError());
+        assertEquals(Optional.empty(), plan.getEntry("missing"));
+
+        assertEquals(Arrays.asList("patch-lib", "tool"), plan.getUpdates()
+                                                             .stream()
+                                                             .map(UpdatePlan.Entry::getArtifact)
+                                                             .collect(Collectors.toList()));
+        assertTrue(plan.getDuration(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(plan.toString().contains("tool 1.0.0 -> 2.0.0 (UPDATE, MAJOR)"), plan.toString());
+    }
+
+    @Test
+    void testLargePlan()
+    {
+        // many artifacts share the catalog, the plan is the same as the sequential migration
+        List<String> catalog = new VersionCorpus(41).create(2_000);
+        Map<String, String> dependencies = new HashMap<>();
+        for (int i = 0; i < 2_000; i++)
+        {
+            dependencies.put("artifact-" + i, catalog.get(i));
+        }
+        UpdatePlanner planner = new UpdatePlanner(Map.of("artifact-1*", UpdateStrategy.PATCH), UpdateStrategy.MINOR);
+        UpdatePlan plan = planner.plan(dependencies, artifact -> catalog);
+        assertEquals(dependencies.size(), plan.getEntries().size());
+        for (UpdatePlan.Entry entry : plan.getEntries())
+        {
+            if (entry.getReason() != UpdatePlan.Reason.INVALID_VERSION)
+            {
+                String expected = SemanticVersions.getNewestVersion(entry.getStrategy(), catalog,
+                                entry.getCurrentVersion());
+                assertEquals(expected, entry.getNewVersion().orElse(entry.getCurrentVersion()), entry.toString());
+            }
+        }
+    }
+
+    private static void assertEntry(UpdatePlan plan, String artifact, UpdatePlan.Reason reason, String newVersion)
+    {
+        UpdatePlan.Entry entry = plan.getEntry(artifact).get();
+        assertEquals(reason, entry.getReason(), entry.toString());
+        assertEquals(Optional.ofNullable(newVersion), entry.getNewVersion(), entry.toString());
+        assertTrue(entry.getDuration(TimeUnit.NANOSECONDS) >= 0);
+    }
+}
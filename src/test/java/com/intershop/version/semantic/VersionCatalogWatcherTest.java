@@ -0,0 +1,124 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class VersionCatalogWatcherTest
+{
+    @Test
+    void testReader() throws IOException
+    {
+        Path file = Files.createTempFile("maven-metadata", ".xml");
+        try
+        {
+            write(file, "1.0", "1.1", "2.0-SNAPSHOT");
+            assertEquals(Arrays.asList("1.0", "1.1", "2.0-SNAPSHOT"), Arrays.asList(
+                            MavenMetadataReader.read(file).toArray(new String[0])));
+            Files.write(file, "<metadata><versioning><versions><version>1.0".getBytes(StandardCharsets.UTF_8));
+            assertThrows(IOException.class, () -> MavenMetadataReader.read(file));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testCatalog()
+    {
+        VersionCatalog catalog = new VersionCatalog();
+        assertEquals(4, catalog.update(Arrays.asList("1.1", "1.0", "1.0.0", "2.0-rc1")));
+        assertEquals(Arrays.asList("1.0", "1.0.0", "1.1", "2.0-rc1"), catalog.getVersions());
+        assertEquals(2, catalog.update(Arrays.asList("1.1", "1.0", "1.0.0", "2.0")));
+        assertEquals(Arrays.asList("1.0", "1.0.0", "1.1", "2.0"), catalog.getVersions());
+        assertEquals("2.0", catalog.getNewestVersion().get());
+        assertEquals("1.1", catalog.getNewestVersion(UpdateStrategy.MINOR, "1.0"));
+        assertTrue(catalog.remove("1.0.0"));
+        assertEquals(3, catalog.size());
+    }
+
+    @Test
+    void testWatch() throws Exception
+    {
+        Path root = Files.createTempDirectory("catalogs");
+        try
+        {
+            Path lib = Files.createDirectories(root.resolve("com/example/lib"));
+            write(lib.resolve(VersionCatalogWatcher.METADATA_FILE), "1.0", "1.1");
+            Path other = Files.createDirectories(root.resolve("com/example/other"));
+            write(other.resolve(VersionCatalogWatcher.METADATA_FILE), "3.0");
+            try (VersionCatalogWatcher watcher = new VersionCatalogWatcher(root))
+            {
+                assertEquals(new HashSet<>(Arrays.asList("com/example/lib", "com/example/other")),
+                                watcher.getCatalogs().keySet());
+                VersionCatalog catalog = watcher.getCatalog("com/example/lib");
+                assertEquals(Arrays.asList("1.0", "1.1"), catalog.getVersions());
+
+                // changed file
+                write(lib.resolve(VersionCatalogWatcher.METADATA_FILE), "1.0", "1.2");
+                await(watcher, () -> catalog.getVersions().equals(Arrays.asList("1.0", "1.2")));
+                assertEquals(Arrays.asList("3.0"), watcher.getCatalog("com/example/other").getVersions());
+
+                // new directory
+                Path added = Files.createDirectories(root.resolve("org/example/added"));
+                write(added.resolve(VersionCatalogWatcher.METADATA_FILE), "0.1");
+                await(watcher, () -> watcher.getCatalog("org/example/added") != null
+                                && watcher.getCatalog("org/example/added").contains("0.1"));
+
+                // deleted file
+                Files.delete(other.resolve(VersionCatalogWatcher.METADATA_FILE));
+                await(watcher, () -> watcher.getCatalog("com/example/other") == null);
+                assertEquals(2, watcher.getCatalogs().size());
+            }
+        }
+        finally
+        {
+            try (Stream<Path> files = Files.walk(root))
+            {
+                for (Path file : files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList()))
+                {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void await(VersionCatalogWatcher watcher, BooleanSupplier condition) throws Exception
+    {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while(!condition.getAsBoolean() && System.nanoTime() < end)
+        {
+            Set<String> changed = watcher.refresh(100, TimeUnit.MILLISECONDS);
+            assertTrue(changed.size() <= watcher.getCatalogs().size() + 1, changed::toString);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static void write(Path file, String... versions) throws IOException
+    {
+        List<String> lines = Stream.of(versions)
+                                   .map(v -> "      <version>" + v + "</version>")
+                                   .collect(Collectors.toList());
+        // the version of the project itself is not part of the versions
+        lines.add(0, "<metadata>\n  <groupId>com.example</groupId>\n  <version>9.9</version>\n"
+                        + "  <versioning>\n    <versions>");
+        lines.add("    </versions>\n  </versioning>\n</metadata>");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.intershop.version.semantic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates reproducible random version strings with a mix of maven and semver syntax.
+ */
+public class VersionCorpus
+{
+    private static final String[] QUALIFIERS = { "", "", "", "-SNAPSHOT", "-alpha1", "-a2", "-beta-3", "-M1", "-rc1",
+                    "-RC2", "-cr1", "-ea", "-preview", "-final", "-GA", "-RELEASE", "-sp1", "-jre8", "-jre11",
+                    "-rc1-jre11", "-dev", "-local", ".v20161208", ".Final", "-20240101.120102-17", "-1", "-0",
+                    "-xyz", "-abc1", "+build.5", "-rc.1+build.7", "-alpha-2-jre8" };
+
+    private final Random random;
+    private final boolean totalOrder;
+
+    public VersionCorpus(long seed)
+    {
+        this(seed, false);
+    }
+
+    /**
+     * @param seed seed of the random versions
+     * @param totalOrder true if large numbers (build numbers or dates) are only created without qualifiers. The
+     *            comparator isn't transitive for large numbers followed by qualifiers (e.g. 0-GA &lt; 0.0.11384.0-ea
+     *            &lt; 0.0 but 0-GA == 0.0), so the result of sorters with a different algorithm (e.g. the radix
+     *            sorter) can differ from the result of the comparator.
+     */
+    public VersionCorpus(long seed, boolean totalOrder)
+    {
+        this.random = new Random(seed);
+        this.totalOrder = totalOrder;
+    }
+
+    /**
+     * @param size amount of versions
+     * @return list of random versions (may contain duplicates)
+     */
+    public List<String> create(int size)
+    {
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            result.add(next());
+        }
+        return result;
+    }
+
+    /**
+     * @return next random version
+     */
+    public String next()
+    {
+        StringBuilder result = new StringBuilder().append(random.nextInt(4));
+        int numbers = random.nextInt(5);
+        for (int i = 0; i < numbers; i++)
+        {
+            if (totalOrder)
+            {
+                result.append('.').append(random.nextInt(4));
+            }
+            else
+            {
+                result.append('.').append(random.nextInt(10) == 0 ? 10 + random.nextInt(20_000) : random.nextInt(4));
+            }
+        }
+        if (totalOrder && random.nextInt(10) == 0)
+        {
+            return result.append('.').append(10 + random.nextInt(20_000)).toString();
+        }
+        return result.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]).toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class VersionEventsTest
+{
+    private static final String PARSE = "com.intershop.version.semantic.Parse";
+    private static final String MIGRATION = "com.intershop.version.semantic.Migration";
+    private static final String SORT = "com.intershop.version.semantic.Sort";
+
+    @Test
+    void testEvents() throws IOException
+    {
+        Path file = Files.createTempFile("semantic-version", ".jfr");
+        try
+        {
+            try (Recording recording = new Recording())
+            {
+                recording.enable(PARSE).withThreshold(Duration.ZERO);
+                recording.enable(MIGRATION);
+                recording.enable(SORT);
+                recording.start();
+                SemanticVersion.valueOf("1.2.3-rc1");
+                SemanticVersions.getNewestVersion(UpdateStrategy.MINOR, Arrays.asList("1.2.4", "1.3.0", "2.0.1"),
+                                "1.2.3");
+                SemanticVersions.sortStrings(Arrays.asList("1.2.3", "1.0", "2.0-rc1"));
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> isEvent(e, PARSE) && "1.2.3-rc1".equals(e.getString("version"))));
+            List<RecordedEvent> migrations = events.stream()
+                                                   .filter(e -> isEvent(e, MIGRATION))
+                                                   .collect(Collectors.toList());
+            assertEquals(1, migrations.size());
+            assertEquals("MINOR", migrations.get(0).getString("strategy"));
+            assertEquals(3, migrations.get(0).getInt("candidates"));
+            assertEquals(2, migrations.get(0).getInt("accepted"));
+            assertTrue(migrations.get(0).getBoolean("found"));
+            assertTrue(events.stream().anyMatch(e -> isEvent(e, SORT) && e.getInt("size") == 3));
+        }
+        finally
+        {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isEvent(RecordedEvent event, String name)
+    {
+        return name.equals(event.getEventType().getName());
+    }
+}
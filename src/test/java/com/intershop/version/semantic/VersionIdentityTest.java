@@ -0,0 +1,58 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class VersionIdentityTest
+{
+    @Test
+    void testEqualsIsSemantic()
+    {
+        List<SemanticVersion> equal = Arrays.asList("1.0", "1.0.0", "1-ga", "1.0-final", "1.0.0-0", "1-jre8")
+                                            .stream()
+                                            .map(SemanticVersion::valueOf)
+                                            .collect(Collectors.toList());
+        for (SemanticVersion version : equal)
+        {
+            assertEquals(equal.get(0), version, version.getVersion());
+            assertEquals(equal.get(0).hashCode(), version.hashCode(), version.getVersion());
+        }
+        assertEquals(1, new HashSet<>(equal).size());
+        assertNotEquals(SemanticVersion.valueOf("1.0"), SemanticVersion.valueOf("1.0-rc1"));
+        assertNotEquals(SemanticVersion.valueOf("1.0-rc1"), SemanticVersion.valueOf("1.0-rc2"));
+        assertNotEquals(SemanticVersion.valueOf("1.0"), SemanticVersion.valueOf("1.0-sp"));
+        assertEquals(SemanticVersion.valueOf("1.0-rc1"), SemanticVersion.valueOf("1.0-cr-1.0"));
+    }
+
+    @Test
+    void testConsistentWithComparator()
+    {
+        List<SemanticVersion> versions = new VersionCorpus(31).create(1_500)
+                                                               .stream()
+                                                               .map(SemanticVersion::valueOf)
+                                                               .collect(Collectors.toList());
+        for (SemanticVersion a : versions.subList(0, 300))
+        {
+            for (SemanticVersion b : versions)
+            {
+                assertEquals(a.compareTo(b) == 0, a.equals(b), a.getVersion() + " vs " + b.getVersion());
+            }
+        }
+    }
+
+    @Test
+    void testDistinct()
+    {
+        assertEquals(Arrays.asList("1.0", "1.1", "2.0-rc1"),
+                        SemanticVersions.distinct(Arrays.asList("1.0", "1.1", "1.0.0", "2.0-rc1", "1-ga", "2-cr1")));
+        assertEquals(Arrays.asList(Arrays.asList("1.0", "1.0.0", "1-ga"), Arrays.asList("1.1")),
+                        SemanticVersions.groupBySemanticMeaning(Arrays.asList("1.0", "1.0.0", "1.1", "1-ga")));
+    }
+}
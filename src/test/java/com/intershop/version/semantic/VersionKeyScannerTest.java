@@ -0,0 +1,87 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class VersionKeyScannerTest
+{
+    @Test
+    void testScanned()
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        for (String version : Arrays.asList("1", "1.2", "1.2.3", "1.2.3.4.5", "0001.02", "9999.9999.9999", "1.2-rc1",
+                        "1.2.3-RC.1", "1.2.3-rc-01", "1.0-SNAPSHOT", "2.0-alpha", "2.0-a1", "2.0-M3", "2.0-sp2",
+                        "2.0-ea", "1.0-preview7", "1.0-rc999999999"))
+        {
+            assertTrue(scanner.scan(version), version);
+            assertSameAsResolver(scanner, version);
+        }
+    }
+
+    @Test
+    void testNotScanned()
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        for (String version : Arrays.asList("", "1.", "1..2", "v1.2", "1.2rc1", "1.20100101", "9.4.0.v20161208",
+                        "1.0-final", "1.0-ga", "1.0-jre8", "1.0-1", "1.0-", "1.0-rc.", "1.0-rc1-SNAPSHOT",
+                        "1.0-foo1", "1.0-rc1234567890", "1.2.3.4.5.6.7.8.9", "1_2", "1.0-rä1"))
+        {
+            assertFalse(scanner.scan(version), version);
+        }
+    }
+
+    @Test
+    void testSameAsResolver()
+    {
+        VersionKeyScanner scanner = new VersionKeyScanner();
+        int scanned = 0;
+        for (String version : new VersionCorpus(17).create(5_000))
+        {
+            if (scanner.scan(version))
+            {
+                assertSameAsResolver(scanner, version);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 1_000, "scanned " + scanned);
+    }
+
+    @Test
+    void testGroups()
+    {
+        List<String> versions = Arrays.asList("1.0", "1.0-rc1", "1.0.0", "1-ga", "1.0-rc1-ga", "1.0-cr1", "1.0.0.0.1",
+                        "1.0-RC1", "1.0.0.0.1.0");
+        List<List<String>> expected = Arrays.asList(Arrays.asList("1.0", "1.0.0", "1-ga"),
+                        Arrays.asList("1.0-rc1", "1.0-rc1-ga", "1.0-cr1", "1.0-RC1"),
+                        Arrays.asList("1.0.0.0.1", "1.0.0.0.1.0"));
+        assertEquals(expected, SemanticVersions.groupBySemanticMeaning(versions));
+
+        List<String> corpus = new ArrayList<>(new VersionCorpus(23).create(3_000));
+        corpus.addAll(corpus.subList(0, 500));
+        List<SemanticVersion> distinct = corpus.stream()
+                                               .map(SemanticVersion::valueOf)
+                                               .distinct()
+                                               .collect(Collectors.toList());
+        assertEquals(distinct.stream().map(SemanticVersion::getVersion).collect(Collectors.toList()),
+                        SemanticVersions.distinct(corpus));
+    }
+
+    private static void assertSameAsResolver(VersionKeyScanner scanner, String version)
+    {
+        SemanticVersionImpl resolved = (SemanticVersionImpl)SemanticVersion.valueOf(version);
+        assertEquals(VersionSortKey.of(resolved), scanner.getKey(), version);
+        assertEquals(VersionSortKey.rank(resolved), scanner.getRank(), version);
+        assertEquals(resolved.getReleaseType(), scanner.getReleaseType(), version);
+        assertEquals(resolved.getMajor(), scanner.getMajor(), version);
+        assertEquals(resolved.getMinor(), scanner.getMinor(), version);
+        assertEquals(resolved.getPatch(), scanner.getPatch(), version);
+    }
+}
@@ -0,0 +1,68 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class VersionMergeIteratorTest
+{
+    private static Iterator<SemanticVersion> source(String... versions)
+    {
+        return Arrays.stream(versions).map(SemanticVersion::valueOf).iterator();
+    }
+
+    private static List<String> toList(Iterator<SemanticVersion> iterator)
+    {
+        List<String> result = new ArrayList<>();
+        iterator.forEachRemaining(v -> result.add(v.getVersion()));
+        return result;
+    }
+
+    @Test
+    void testMerge()
+    {
+        assertEquals(Arrays.asList("0.9", "1.0-rc1", "1.0", "1.1", "2.0"),
+                        toList(SemanticVersions.mergeSorted(Arrays.asList(source("1.0", "1.1"),
+                                        source("0.9", "1.0.0", "2.0"), source("1.0-rc1", "1-ga"), source()))));
+    }
+
+    @Test
+    void testDuplicateResolver()
+    {
+        // keep the version of the last source
+        assertEquals(Arrays.asList("1-ga", "1.1"),
+                        toList(SemanticVersions.mergeSorted(Arrays.asList(source("1.0", "1.1"), source("1.0.0"),
+                                        source("1-ga")), (kept, duplicate) -> duplicate)));
+        // duplicates of the same source are removed also
+        assertEquals(Arrays.asList("1.0", "2"),
+                        toList(SemanticVersions.mergeSorted(Arrays.asList(source("1.0", "1.0.0", "2")))));
+    }
+
+    @Test
+    void testMergeStreams()
+    {
+        try (Stream<SemanticVersion> merged = SemanticVersions.mergeSortedStreams(
+                        Arrays.asList(Stream.of("1.0", "3.0").map(SemanticVersion::valueOf),
+                                        Stream.of("2.0", "3").map(SemanticVersion::valueOf)),
+                        (kept, duplicate) -> kept))
+        {
+            assertEquals(Arrays.asList("1.0", "2.0", "3.0"),
+                            merged.map(SemanticVersion::getVersion).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testUnsortedSource()
+    {
+        Iterator<SemanticVersion> merged = SemanticVersions.mergeSorted(Arrays.asList(source("2.0", "1.0")));
+        assertThrows(IllegalStateException.class, () -> toList(merged));
+    }
+}
@@ -0,0 +1,68 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.intershop.version.semantic.VersionNumberItems.Item;
+import com.intershop.version.semantic.VersionNumberItems.ItemType;
+
+class VersionNumberItemsTest
+{
+    @Test
+    void testSmallNumbersAreShared()
+    {
+        assertSame(VersionNumberItems.parseItem("7"), VersionNumberItems.parseItem("007"));
+        assertSame(VersionNumberItems.parseItem("1023"), VersionNumberItems.valueOf(1023));
+        assertSame(VersionNumberItems.parseItem("0"), VersionNumberItems.parseItem("000000000000000000000000"));
+        assertSame(VersionNumberItems.valueOf(10), VersionNumberItems.valueOf(9).increment());
+    }
+
+    @Test
+    void testIncrementKeepsNormalizedTypes()
+    {
+        assertIncrement("999999999", "1000000000", ItemType.LONG);
+        assertIncrement("999999999999999999", "1000000000000000000", ItemType.DIGITS);
+        assertIncrement("1000000000000000000", "1000000000000000001", ItemType.DIGITS);
+        assertIncrement("1999999999999999999999", "2000000000000000000000", ItemType.DIGITS);
+        assertIncrement("9999999999999999999999", "10000000000000000000000", ItemType.DIGITS);
+    }
+
+    @Test
+    void testCompareLikeBigInteger()
+    {
+        List<String> numbers = Arrays.asList("0", "1", "09", "10", "999999999", "1000000000", "000001000000000",
+                        "999999999999999999", "1000000000000000000", "1000000000000000001", "9000000000000000000",
+                        "10000000000000000000", "99999999999999999999999", "100000000000000000000000");
+        for (String a : numbers)
+        {
+            for (String b : numbers)
+            {
+                int expected = new BigInteger(a).compareTo(new BigInteger(b));
+                Item itemA = VersionNumberItems.parseItem(a);
+                Item itemB = VersionNumberItems.parseItem(b);
+                assertEquals(expected, Integer.signum(itemA.compareTo(itemB)), a + " vs " + b);
+                assertEquals(expected == 0, itemA.equals(itemB), a + " equals " + b);
+                if (expected == 0)
+                {
+                    assertEquals(itemA.hashCode(), itemB.hashCode(), a + " hash " + b);
+                }
+            }
+        }
+    }
+
+    private static void assertIncrement(String number, String expected, ItemType expectedType)
+    {
+        Item result = VersionNumberItems.parseItem(number).increment();
+        assertEquals(expected, result.toString());
+        assertEquals(expectedType, result.getType());
+        assertEquals(VersionNumberItems.parseItem(expected), result);
+        assertTrue(result.compareTo(VersionNumberItems.parseItem(number)) > 0, expected);
+    }
+}
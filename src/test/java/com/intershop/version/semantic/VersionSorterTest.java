@@ -0,0 +1,52 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class VersionSorterTest
+{
+    @Test
+    void testSortStrings()
+    {
+        assertEquals(Arrays.asList("1.0-alpha1", "1.0-rc1", "1", "1.0.0", "1.0-sp1", "1.0.1", "1.2"),
+                        SemanticVersions.sortStrings(Arrays.asList("1.2", "1.0-rc1", "1", "1.0.1", "1.0-sp1",
+                                        "1.0-alpha1", "1.0.0")));
+    }
+
+    @Test
+    void testSortKeyIsOrderPreserving()
+    {
+        List<SemanticVersion> versions = new VersionCorpus(4711).create(2_000)
+                                                                 .stream()
+                                                                 .map(SemanticVersion::valueOf)
+                                                                 .collect(Collectors.toList());
+        for (SemanticVersion a : versions.subList(0, 200))
+        {
+            for (SemanticVersion b : versions)
+            {
+                long keyA = VersionSortKey.of((SemanticVersionImpl)a);
+                long keyB = VersionSortKey.of((SemanticVersionImpl)b);
+                if (keyA != keyB)
+                {
+                    assertEquals(Long.signum(keyA - keyB), Integer.signum(a.compareTo(b)),
+                                    "order of " + a.getVersion() + " and " + b.getVersion());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSortLargeList()
+    {
+        List<String> versions = new VersionCorpus(42).create(VersionSorter.PARALLEL_THRESHOLD * 3);
+        List<String> expected = new ArrayList<>(versions);
+        expected.sort(VersionComparators.STRING_COMPARATOR);
+        assertEquals(expected, SemanticVersions.sortStrings(versions));
+    }
+}
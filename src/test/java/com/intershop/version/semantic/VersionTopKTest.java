@@ -0,0 +1,73 @@
+package com.intershop.version.semantic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class VersionTopKTest
+{
+    private static final List<String> VERSIONS = Arrays.asList("1.2.4", "1.3.0", "2.0.1", "2.0.2-RC1", "1.2.3",
+                    "1.2.5-SNAPSHOT", "0.9", "1.2.10", "1.10.1");
+
+    @Test
+    void testPrefix()
+    {
+        assertEquals(VersionPrefix.of(1, 2, 3), VersionPrefix.scan("1.2.3"));
+        assertEquals(VersionPrefix.of(1, 2, 3), VersionPrefix.scan("1.2.3.4-rc1"));
+        assertEquals(VersionPrefix.of(1, 2, 0), VersionPrefix.scan("1.2-rc1"));
+        assertEquals(VersionPrefix.of(9, 4, 0), VersionPrefix.scan("9.4.0.v20161208"));
+        assertEquals(VersionPrefix.of(1, 0, 0), VersionPrefix.scan("0001"));
+        assertEquals(VersionPrefix.UNKNOWN, VersionPrefix.scan("1.2rc1.3"));
+        assertEquals(VersionPrefix.UNKNOWN, VersionPrefix.scan("1.20100101"));
+        assertEquals(VersionPrefix.UNKNOWN, VersionPrefix.scan("v1.2.3"));
+        assertEquals(VersionPrefix.UNKNOWN, VersionPrefix.scan(""));
+        for (String version : new VersionCorpus(7).create(1_000))
+        {
+            long prefix = VersionPrefix.scan(version);
+            if (prefix != VersionPrefix.UNKNOWN)
+            {
+                assertEquals(VersionPrefix.of(SemanticVersion.valueOf(version)), prefix, version);
+            }
+        }
+    }
+
+    @Test
+    void testNewestVersions()
+    {
+        assertEquals(Arrays.asList("2.0.2-RC1", "2.0.1", "1.10.1"), SemanticVersions.getNewestVersions(3, VERSIONS));
+        assertEquals(Collections.emptyList(), SemanticVersions.getNewestVersions(0, VERSIONS));
+        assertEquals(Arrays.asList("1.2.10", "1.2.4"),
+                        SemanticVersions.getNewestVersions(5, UpdateStrategy.PATCH, VERSIONS, "1.2.3"));
+        assertEquals(Arrays.asList("1.10.1", "1.3.0"),
+                        SemanticVersions.getNewestVersions(2, UpdateStrategy.MINOR, VERSIONS, "1.2.3"));
+        assertEquals(Arrays.asList("2.0.2-RC1", "2.0.1"),
+                        SemanticVersions.getNewestVersions(2, UpdateStrategy.DEV, VERSIONS, "1.2.3"));
+        assertEquals(Collections.emptyList(),
+                        SemanticVersions.getNewestVersions(2, UpdateStrategy.STICK, VERSIONS, "1.2.3"));
+    }
+
+    @Test
+    void testSameResultAsSort()
+    {
+        List<String> versions = new VersionCorpus(11).create(10_000);
+        List<SemanticVersion> sorted = versions.stream().map(SemanticVersion::valueOf).collect(Collectors.toList());
+        sorted.sort(Collections.reverseOrder(VersionComparators.VERSION_COMPARATOR));
+        List<SemanticVersion> newest = SemanticVersions.getNewestVersions(20, versions)
+                                                       .stream()
+                                                       .map(SemanticVersion::valueOf)
+                                                       .collect(Collectors.toList());
+        List<SemanticVersion> expected = new ArrayList<>(sorted.subList(0, 20));
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(0, expected.get(i).compareTo(newest.get(i)), "position " + i);
+        }
+        assertEquals(SemanticVersions.getNewestVersion(UpdateStrategy.PATCH, versions, "1.2.0"),
+                        SemanticVersions.getNewestVersions(1, UpdateStrategy.PATCH, versions, "1.2.0").get(0));
+    }
+}